@@ -0,0 +1,5 @@
+(letrec*
+  ((dec (lambda (n) (subtract n 1)))
+   (small? (lambda (n) (zero? (dec n))))
+   (fib (lambda (n) (if (zero? n) 0 (if (small? n) 1 (add (fib (dec n)) (fib (dec (dec n)))))))))
+  (fib 22))
@@ -0,0 +1,2 @@
+(letrec* ((fib (lambda (n) (if (zero? n) 0 (if (zero? (subtract n 1)) 1 (add (fib (subtract n 1)) (fib (subtract n 2))))))))
+  (fib 22))
@@ -0,0 +1 @@
+((lambda (x1) ((lambda (x2) ((lambda (x3) ((lambda (x4) ((lambda (x5) ((lambda (x6) ((lambda (x7) ((lambda (x8) ((lambda (x9) ((lambda (x10) ((lambda (x11) ((lambda (x12) ((lambda (x13) ((lambda (x14) ((lambda (x15) ((lambda (x16) ((lambda (x17) ((lambda (x18) ((lambda (x19) ((lambda (x20) ((lambda (x21) ((lambda (x22) ((lambda (x23) ((lambda (x24) ((lambda (x25) ((lambda (x26) ((lambda (x27) ((lambda (x28) ((lambda (x29) ((lambda (x30) ((lambda (x31) ((lambda (x32) ((lambda (x33) ((lambda (x34) ((lambda (x35) ((lambda (x36) ((lambda (x37) ((lambda (x38) ((lambda (x39) ((lambda (x40) ((lambda (x41) ((lambda (x42) ((lambda (x43) ((lambda (x44) ((lambda (x45) ((lambda (x46) ((lambda (x47) ((lambda (x48) ((lambda (x49) ((lambda (x50) ((lambda (x51) ((lambda (x52) ((lambda (x53) ((lambda (x54) ((lambda (x55) ((lambda (x56) ((lambda (x57) ((lambda (x58) ((lambda (x59) ((lambda (x60) ((lambda (x61) ((lambda (x62) ((lambda (x63) ((lambda (x64) ((lambda (x65) ((lambda (x66) ((lambda (x67) ((lambda (x68) ((lambda (x69) ((lambda (x70) ((lambda (x71) ((lambda (x72) ((lambda (x73) ((lambda (x74) ((lambda (x75) ((lambda (x76) ((lambda (x77) ((lambda (x78) ((lambda (x79) ((lambda (x80) ((lambda (x81) ((lambda (x82) ((lambda (x83) ((lambda (x84) ((lambda (x85) ((lambda (x86) ((lambda (x87) ((lambda (x88) ((lambda (x89) ((lambda (x90) ((lambda (x91) ((lambda (x92) ((lambda (x93) ((lambda (x94) ((lambda (x95) ((lambda (x96) ((lambda (x97) ((lambda (x98) ((lambda (x99) ((lambda (x100) ((lambda (x101) ((lambda (x102) ((lambda (x103) ((lambda (x104) ((lambda (x105) ((lambda (x106) ((lambda (x107) ((lambda (x108) ((lambda (x109) ((lambda (x110) ((lambda (x111) ((lambda (x112) ((lambda (x113) ((lambda (x114) ((lambda (x115) ((lambda (x116) ((lambda (x117) ((lambda (x118) ((lambda (x119) ((lambda (x120) ((lambda (x121) ((lambda (x122) ((lambda (x123) ((lambda (x124) ((lambda (x125) ((lambda (x126) ((lambda (x127) ((lambda (x128) ((lambda (x129) ((lambda (x130) ((lambda (x131) ((lambda (x132) ((lambda (x133) ((lambda (x134) ((lambda (x135) ((lambda (x136) ((lambda (x137) ((lambda (x138) ((lambda (x139) ((lambda (x140) ((lambda (x141) ((lambda (x142) ((lambda (x143) ((lambda (x144) ((lambda (x145) ((lambda (x146) ((lambda (x147) ((lambda (x148) ((lambda (x149) ((lambda (x150) ((lambda (x151) ((lambda (x152) ((lambda (x153) ((lambda (x154) ((lambda (x155) ((lambda (x156) ((lambda (x157) ((lambda (x158) ((lambda (x159) ((lambda (x160) ((lambda (x161) ((lambda (x162) ((lambda (x163) ((lambda (x164) ((lambda (x165) ((lambda (x166) ((lambda (x167) ((lambda (x168) ((lambda (x169) ((lambda (x170) ((lambda (x171) ((lambda (x172) ((lambda (x173) ((lambda (x174) ((lambda (x175) ((lambda (x176) ((lambda (x177) ((lambda (x178) ((lambda (x179) ((lambda (x180) ((lambda (x181) ((lambda (x182) ((lambda (x183) ((lambda (x184) ((lambda (x185) ((lambda (x186) ((lambda (x187) ((lambda (x188) ((lambda (x189) ((lambda (x190) ((lambda (x191) ((lambda (x192) ((lambda (x193) ((lambda (x194) ((lambda (x195) ((lambda (x196) ((lambda (x197) ((lambda (x198) ((lambda (x199) ((lambda (x200) ((lambda (x201) ((lambda (x202) ((lambda (x203) ((lambda (x204) ((lambda (x205) ((lambda (x206) ((lambda (x207) ((lambda (x208) ((lambda (x209) ((lambda (x210) ((lambda (x211) ((lambda (x212) ((lambda (x213) ((lambda (x214) ((lambda (x215) ((lambda (x216) ((lambda (x217) ((lambda (x218) ((lambda (x219) ((lambda (x220) ((lambda (x221) ((lambda (x222) ((lambda (x223) ((lambda (x224) ((lambda (x225) ((lambda (x226) ((lambda (x227) ((lambda (x228) ((lambda (x229) ((lambda (x230) ((lambda (x231) ((lambda (x232) ((lambda (x233) ((lambda (x234) ((lambda (x235) ((lambda (x236) ((lambda (x237) ((lambda (x238) ((lambda (x239) ((lambda (x240) ((lambda (x241) ((lambda (x242) ((lambda (x243) ((lambda (x244) ((lambda (x245) ((lambda (x246) ((lambda (x247) ((lambda (x248) ((lambda (x249) ((lambda (x250) ((lambda (x251) ((lambda (x252) ((lambda (x253) ((lambda (x254) ((lambda (x255) ((lambda (x256) ((lambda (x257) ((lambda (x258) ((lambda (x259) ((lambda (x260) ((lambda (x261) ((lambda (x262) ((lambda (x263) ((lambda (x264) ((lambda (x265) ((lambda (x266) ((lambda (x267) ((lambda (x268) ((lambda (x269) ((lambda (x270) ((lambda (x271) ((lambda (x272) ((lambda (x273) ((lambda (x274) ((lambda (x275) ((lambda (x276) ((lambda (x277) ((lambda (x278) ((lambda (x279) ((lambda (x280) ((lambda (x281) ((lambda (x282) ((lambda (x283) ((lambda (x284) ((lambda (x285) ((lambda (x286) ((lambda (x287) ((lambda (x288) ((lambda (x289) ((lambda (x290) ((lambda (x291) ((lambda (x292) ((lambda (x293) ((lambda (x294) ((lambda (x295) ((lambda (x296) ((lambda (x297) ((lambda (x298) ((lambda (x299) ((lambda (x300) ((lambda (x301) ((lambda (x302) ((lambda (x303) ((lambda (x304) ((lambda (x305) ((lambda (x306) ((lambda (x307) ((lambda (x308) ((lambda (x309) ((lambda (x310) ((lambda (x311) ((lambda (x312) ((lambda (x313) ((lambda (x314) ((lambda (x315) ((lambda (x316) ((lambda (x317) ((lambda (x318) ((lambda (x319) ((lambda (x320) ((lambda (x321) ((lambda (x322) ((lambda (x323) ((lambda (x324) ((lambda (x325) ((lambda (x326) ((lambda (x327) ((lambda (x328) ((lambda (x329) ((lambda (x330) ((lambda (x331) ((lambda (x332) ((lambda (x333) ((lambda (x334) ((lambda (x335) ((lambda (x336) ((lambda (x337) ((lambda (x338) ((lambda (x339) ((lambda (x340) ((lambda (x341) ((lambda (x342) ((lambda (x343) ((lambda (x344) ((lambda (x345) ((lambda (x346) ((lambda (x347) ((lambda (x348) ((lambda (x349) ((lambda (x350) ((lambda (x351) ((lambda (x352) ((lambda (x353) ((lambda (x354) ((lambda (x355) ((lambda (x356) ((lambda (x357) ((lambda (x358) ((lambda (x359) ((lambda (x360) ((lambda (x361) ((lambda (x362) ((lambda (x363) ((lambda (x364) ((lambda (x365) ((lambda (x366) ((lambda (x367) ((lambda (x368) ((lambda (x369) ((lambda (x370) ((lambda (x371) ((lambda (x372) ((lambda (x373) ((lambda (x374) ((lambda (x375) ((lambda (x376) ((lambda (x377) ((lambda (x378) ((lambda (x379) ((lambda (x380) ((lambda (x381) ((lambda (x382) ((lambda (x383) ((lambda (x384) ((lambda (x385) ((lambda (x386) ((lambda (x387) ((lambda (x388) ((lambda (x389) ((lambda (x390) ((lambda (x391) ((lambda (x392) ((lambda (x393) ((lambda (x394) ((lambda (x395) ((lambda (x396) ((lambda (x397) ((lambda (x398) ((lambda (x399) ((lambda (x400) ((lambda (x401) ((lambda (x402) ((lambda (x403) ((lambda (x404) ((lambda (x405) ((lambda (x406) ((lambda (x407) ((lambda (x408) ((lambda (x409) ((lambda (x410) ((lambda (x411) ((lambda (x412) ((lambda (x413) ((lambda (x414) ((lambda (x415) ((lambda (x416) ((lambda (x417) ((lambda (x418) ((lambda (x419) ((lambda (x420) ((lambda (x421) ((lambda (x422) ((lambda (x423) ((lambda (x424) ((lambda (x425) ((lambda (x426) ((lambda (x427) ((lambda (x428) ((lambda (x429) ((lambda (x430) ((lambda (x431) ((lambda (x432) ((lambda (x433) ((lambda (x434) ((lambda (x435) ((lambda (x436) ((lambda (x437) ((lambda (x438) ((lambda (x439) ((lambda (x440) ((lambda (x441) ((lambda (x442) ((lambda (x443) ((lambda (x444) ((lambda (x445) ((lambda (x446) ((lambda (x447) ((lambda (x448) ((lambda (x449) ((lambda (x450) ((lambda (x451) ((lambda (x452) ((lambda (x453) ((lambda (x454) ((lambda (x455) ((lambda (x456) ((lambda (x457) ((lambda (x458) ((lambda (x459) ((lambda (x460) ((lambda (x461) ((lambda (x462) ((lambda (x463) ((lambda (x464) ((lambda (x465) ((lambda (x466) ((lambda (x467) ((lambda (x468) ((lambda (x469) ((lambda (x470) ((lambda (x471) ((lambda (x472) ((lambda (x473) ((lambda (x474) ((lambda (x475) ((lambda (x476) ((lambda (x477) ((lambda (x478) ((lambda (x479) ((lambda (x480) ((lambda (x481) ((lambda (x482) ((lambda (x483) ((lambda (x484) ((lambda (x485) ((lambda (x486) ((lambda (x487) ((lambda (x488) ((lambda (x489) ((lambda (x490) ((lambda (x491) ((lambda (x492) ((lambda (x493) ((lambda (x494) ((lambda (x495) ((lambda (x496) ((lambda (x497) ((lambda (x498) ((lambda (x499) ((lambda (x500) ((lambda (x501) ((lambda (x502) ((lambda (x503) ((lambda (x504) ((lambda (x505) ((lambda (x506) ((lambda (x507) ((lambda (x508) ((lambda (x509) ((lambda (x510) ((lambda (x511) ((lambda (x512) ((lambda (x513) ((lambda (x514) ((lambda (x515) ((lambda (x516) ((lambda (x517) ((lambda (x518) ((lambda (x519) ((lambda (x520) ((lambda (x521) ((lambda (x522) ((lambda (x523) ((lambda (x524) ((lambda (x525) ((lambda (x526) ((lambda (x527) ((lambda (x528) ((lambda (x529) ((lambda (x530) ((lambda (x531) ((lambda (x532) ((lambda (x533) ((lambda (x534) ((lambda (x535) ((lambda (x536) ((lambda (x537) ((lambda (x538) ((lambda (x539) ((lambda (x540) ((lambda (x541) ((lambda (x542) ((lambda (x543) ((lambda (x544) ((lambda (x545) ((lambda (x546) ((lambda (x547) ((lambda (x548) ((lambda (x549) ((lambda (x550) ((lambda (x551) ((lambda (x552) ((lambda (x553) ((lambda (x554) ((lambda (x555) ((lambda (x556) ((lambda (x557) ((lambda (x558) ((lambda (x559) ((lambda (x560) ((lambda (x561) ((lambda (x562) ((lambda (x563) ((lambda (x564) ((lambda (x565) ((lambda (x566) ((lambda (x567) ((lambda (x568) ((lambda (x569) ((lambda (x570) ((lambda (x571) ((lambda (x572) ((lambda (x573) ((lambda (x574) ((lambda (x575) ((lambda (x576) ((lambda (x577) ((lambda (x578) ((lambda (x579) ((lambda (x580) ((lambda (x581) ((lambda (x582) ((lambda (x583) ((lambda (x584) ((lambda (x585) ((lambda (x586) ((lambda (x587) ((lambda (x588) ((lambda (x589) ((lambda (x590) ((lambda (x591) ((lambda (x592) ((lambda (x593) ((lambda (x594) ((lambda (x595) ((lambda (x596) ((lambda (x597) ((lambda (x598) ((lambda (x599) ((lambda (x600) ((lambda (x601) ((lambda (x602) ((lambda (x603) ((lambda (x604) ((lambda (x605) ((lambda (x606) ((lambda (x607) ((lambda (x608) ((lambda (x609) ((lambda (x610) ((lambda (x611) ((lambda (x612) ((lambda (x613) ((lambda (x614) ((lambda (x615) ((lambda (x616) ((lambda (x617) ((lambda (x618) ((lambda (x619) ((lambda (x620) ((lambda (x621) ((lambda (x622) ((lambda (x623) ((lambda (x624) ((lambda (x625) ((lambda (x626) ((lambda (x627) ((lambda (x628) ((lambda (x629) ((lambda (x630) ((lambda (x631) ((lambda (x632) ((lambda (x633) ((lambda (x634) ((lambda (x635) ((lambda (x636) ((lambda (x637) ((lambda (x638) ((lambda (x639) ((lambda (x640) ((lambda (x641) ((lambda (x642) ((lambda (x643) ((lambda (x644) ((lambda (x645) ((lambda (x646) ((lambda (x647) ((lambda (x648) ((lambda (x649) ((lambda (x650) ((lambda (x651) ((lambda (x652) ((lambda (x653) ((lambda (x654) ((lambda (x655) ((lambda (x656) ((lambda (x657) ((lambda (x658) ((lambda (x659) ((lambda (x660) ((lambda (x661) ((lambda (x662) ((lambda (x663) ((lambda (x664) ((lambda (x665) ((lambda (x666) ((lambda (x667) ((lambda (x668) ((lambda (x669) ((lambda (x670) ((lambda (x671) ((lambda (x672) ((lambda (x673) ((lambda (x674) ((lambda (x675) ((lambda (x676) ((lambda (x677) ((lambda (x678) ((lambda (x679) ((lambda (x680) ((lambda (x681) ((lambda (x682) ((lambda (x683) ((lambda (x684) ((lambda (x685) ((lambda (x686) ((lambda (x687) ((lambda (x688) ((lambda (x689) ((lambda (x690) ((lambda (x691) ((lambda (x692) ((lambda (x693) ((lambda (x694) ((lambda (x695) ((lambda (x696) ((lambda (x697) ((lambda (x698) ((lambda (x699) ((lambda (x700) ((lambda (x701) ((lambda (x702) ((lambda (x703) ((lambda (x704) ((lambda (x705) ((lambda (x706) ((lambda (x707) ((lambda (x708) ((lambda (x709) ((lambda (x710) ((lambda (x711) ((lambda (x712) ((lambda (x713) ((lambda (x714) ((lambda (x715) ((lambda (x716) ((lambda (x717) ((lambda (x718) ((lambda (x719) ((lambda (x720) ((lambda (x721) ((lambda (x722) ((lambda (x723) ((lambda (x724) ((lambda (x725) ((lambda (x726) ((lambda (x727) ((lambda (x728) ((lambda (x729) ((lambda (x730) ((lambda (x731) ((lambda (x732) ((lambda (x733) ((lambda (x734) ((lambda (x735) ((lambda (x736) ((lambda (x737) ((lambda (x738) ((lambda (x739) ((lambda (x740) ((lambda (x741) ((lambda (x742) ((lambda (x743) ((lambda (x744) ((lambda (x745) ((lambda (x746) ((lambda (x747) ((lambda (x748) ((lambda (x749) ((lambda (x750) ((lambda (x751) ((lambda (x752) ((lambda (x753) ((lambda (x754) ((lambda (x755) ((lambda (x756) ((lambda (x757) ((lambda (x758) ((lambda (x759) ((lambda (x760) ((lambda (x761) ((lambda (x762) ((lambda (x763) ((lambda (x764) ((lambda (x765) ((lambda (x766) ((lambda (x767) ((lambda (x768) ((lambda (x769) ((lambda (x770) ((lambda (x771) ((lambda (x772) ((lambda (x773) ((lambda (x774) ((lambda (x775) ((lambda (x776) ((lambda (x777) ((lambda (x778) ((lambda (x779) ((lambda (x780) ((lambda (x781) ((lambda (x782) ((lambda (x783) ((lambda (x784) ((lambda (x785) ((lambda (x786) ((lambda (x787) ((lambda (x788) ((lambda (x789) ((lambda (x790) ((lambda (x791) ((lambda (x792) ((lambda (x793) ((lambda (x794) ((lambda (x795) ((lambda (x796) ((lambda (x797) ((lambda (x798) ((lambda (x799) ((lambda (x800) ((lambda (x801) ((lambda (x802) ((lambda (x803) ((lambda (x804) ((lambda (x805) ((lambda (x806) ((lambda (x807) ((lambda (x808) ((lambda (x809) ((lambda (x810) ((lambda (x811) ((lambda (x812) ((lambda (x813) ((lambda (x814) ((lambda (x815) ((lambda (x816) ((lambda (x817) ((lambda (x818) ((lambda (x819) ((lambda (x820) ((lambda (x821) ((lambda (x822) ((lambda (x823) ((lambda (x824) ((lambda (x825) ((lambda (x826) ((lambda (x827) ((lambda (x828) ((lambda (x829) ((lambda (x830) ((lambda (x831) ((lambda (x832) ((lambda (x833) ((lambda (x834) ((lambda (x835) ((lambda (x836) ((lambda (x837) ((lambda (x838) ((lambda (x839) ((lambda (x840) ((lambda (x841) ((lambda (x842) ((lambda (x843) ((lambda (x844) ((lambda (x845) ((lambda (x846) ((lambda (x847) ((lambda (x848) ((lambda (x849) ((lambda (x850) ((lambda (x851) ((lambda (x852) ((lambda (x853) ((lambda (x854) ((lambda (x855) ((lambda (x856) ((lambda (x857) ((lambda (x858) ((lambda (x859) ((lambda (x860) ((lambda (x861) ((lambda (x862) ((lambda (x863) ((lambda (x864) ((lambda (x865) ((lambda (x866) ((lambda (x867) ((lambda (x868) ((lambda (x869) ((lambda (x870) ((lambda (x871) ((lambda (x872) ((lambda (x873) ((lambda (x874) ((lambda (x875) ((lambda (x876) ((lambda (x877) ((lambda (x878) ((lambda (x879) ((lambda (x880) ((lambda (x881) ((lambda (x882) ((lambda (x883) ((lambda (x884) ((lambda (x885) ((lambda (x886) ((lambda (x887) ((lambda (x888) ((lambda (x889) ((lambda (x890) ((lambda (x891) ((lambda (x892) ((lambda (x893) ((lambda (x894) ((lambda (x895) ((lambda (x896) ((lambda (x897) ((lambda (x898) ((lambda (x899) ((lambda (x900) ((lambda (x901) ((lambda (x902) ((lambda (x903) ((lambda (x904) ((lambda (x905) ((lambda (x906) ((lambda (x907) ((lambda (x908) ((lambda (x909) ((lambda (x910) ((lambda (x911) ((lambda (x912) ((lambda (x913) ((lambda (x914) ((lambda (x915) ((lambda (x916) ((lambda (x917) ((lambda (x918) ((lambda (x919) ((lambda (x920) ((lambda (x921) ((lambda (x922) ((lambda (x923) ((lambda (x924) ((lambda (x925) ((lambda (x926) ((lambda (x927) ((lambda (x928) ((lambda (x929) ((lambda (x930) ((lambda (x931) ((lambda (x932) ((lambda (x933) ((lambda (x934) ((lambda (x935) ((lambda (x936) ((lambda (x937) ((lambda (x938) ((lambda (x939) ((lambda (x940) ((lambda (x941) ((lambda (x942) ((lambda (x943) ((lambda (x944) ((lambda (x945) ((lambda (x946) ((lambda (x947) ((lambda (x948) ((lambda (x949) ((lambda (x950) ((lambda (x951) ((lambda (x952) ((lambda (x953) ((lambda (x954) ((lambda (x955) ((lambda (x956) ((lambda (x957) ((lambda (x958) ((lambda (x959) ((lambda (x960) ((lambda (x961) ((lambda (x962) ((lambda (x963) ((lambda (x964) ((lambda (x965) ((lambda (x966) ((lambda (x967) ((lambda (x968) ((lambda (x969) ((lambda (x970) ((lambda (x971) ((lambda (x972) ((lambda (x973) ((lambda (x974) ((lambda (x975) ((lambda (x976) ((lambda (x977) ((lambda (x978) ((lambda (x979) ((lambda (x980) ((lambda (x981) ((lambda (x982) ((lambda (x983) ((lambda (x984) ((lambda (x985) ((lambda (x986) ((lambda (x987) ((lambda (x988) ((lambda (x989) ((lambda (x990) ((lambda (x991) ((lambda (x992) ((lambda (x993) ((lambda (x994) ((lambda (x995) ((lambda (x996) ((lambda (x997) ((lambda (x998) ((lambda (x999) ((lambda (x1000) ((lambda (x1001) ((lambda (x1002) ((lambda (x1003) ((lambda (x1004) ((lambda (x1005) ((lambda (x1006) ((lambda (x1007) ((lambda (x1008) ((lambda (x1009) ((lambda (x1010) ((lambda (x1011) ((lambda (x1012) ((lambda (x1013) ((lambda (x1014) ((lambda (x1015) ((lambda (x1016) ((lambda (x1017) ((lambda (x1018) ((lambda (x1019) ((lambda (x1020) ((lambda (x1021) ((lambda (x1022) ((lambda (x1023) ((lambda (x1024) ((lambda (x1025) ((lambda (x1026) ((lambda (x1027) ((lambda (x1028) ((lambda (x1029) ((lambda (x1030) ((lambda (x1031) ((lambda (x1032) ((lambda (x1033) ((lambda (x1034) ((lambda (x1035) ((lambda (x1036) ((lambda (x1037) ((lambda (x1038) ((lambda (x1039) ((lambda (x1040) ((lambda (x1041) ((lambda (x1042) ((lambda (x1043) ((lambda (x1044) ((lambda (x1045) ((lambda (x1046) ((lambda (x1047) ((lambda (x1048) ((lambda (x1049) ((lambda (x1050) ((lambda (x1051) ((lambda (x1052) ((lambda (x1053) ((lambda (x1054) ((lambda (x1055) ((lambda (x1056) ((lambda (x1057) ((lambda (x1058) ((lambda (x1059) ((lambda (x1060) ((lambda (x1061) ((lambda (x1062) ((lambda (x1063) ((lambda (x1064) ((lambda (x1065) ((lambda (x1066) ((lambda (x1067) ((lambda (x1068) ((lambda (x1069) ((lambda (x1070) ((lambda (x1071) ((lambda (x1072) ((lambda (x1073) ((lambda (x1074) ((lambda (x1075) ((lambda (x1076) ((lambda (x1077) ((lambda (x1078) ((lambda (x1079) ((lambda (x1080) ((lambda (x1081) ((lambda (x1082) ((lambda (x1083) ((lambda (x1084) ((lambda (x1085) ((lambda (x1086) ((lambda (x1087) ((lambda (x1088) ((lambda (x1089) ((lambda (x1090) ((lambda (x1091) ((lambda (x1092) ((lambda (x1093) ((lambda (x1094) ((lambda (x1095) ((lambda (x1096) ((lambda (x1097) ((lambda (x1098) ((lambda (x1099) ((lambda (x1100) ((lambda (x1101) ((lambda (x1102) ((lambda (x1103) ((lambda (x1104) ((lambda (x1105) ((lambda (x1106) ((lambda (x1107) ((lambda (x1108) ((lambda (x1109) ((lambda (x1110) ((lambda (x1111) ((lambda (x1112) ((lambda (x1113) ((lambda (x1114) ((lambda (x1115) ((lambda (x1116) ((lambda (x1117) ((lambda (x1118) ((lambda (x1119) ((lambda (x1120) ((lambda (x1121) ((lambda (x1122) ((lambda (x1123) ((lambda (x1124) ((lambda (x1125) ((lambda (x1126) ((lambda (x1127) ((lambda (x1128) ((lambda (x1129) ((lambda (x1130) ((lambda (x1131) ((lambda (x1132) ((lambda (x1133) ((lambda (x1134) ((lambda (x1135) ((lambda (x1136) ((lambda (x1137) ((lambda (x1138) ((lambda (x1139) ((lambda (x1140) ((lambda (x1141) ((lambda (x1142) ((lambda (x1143) ((lambda (x1144) ((lambda (x1145) ((lambda (x1146) ((lambda (x1147) ((lambda (x1148) ((lambda (x1149) ((lambda (x1150) ((lambda (x1151) ((lambda (x1152) ((lambda (x1153) ((lambda (x1154) ((lambda (x1155) ((lambda (x1156) ((lambda (x1157) ((lambda (x1158) ((lambda (x1159) ((lambda (x1160) ((lambda (x1161) ((lambda (x1162) ((lambda (x1163) ((lambda (x1164) ((lambda (x1165) ((lambda (x1166) ((lambda (x1167) ((lambda (x1168) ((lambda (x1169) ((lambda (x1170) ((lambda (x1171) ((lambda (x1172) ((lambda (x1173) ((lambda (x1174) ((lambda (x1175) ((lambda (x1176) ((lambda (x1177) ((lambda (x1178) ((lambda (x1179) ((lambda (x1180) ((lambda (x1181) ((lambda (x1182) ((lambda (x1183) ((lambda (x1184) ((lambda (x1185) ((lambda (x1186) ((lambda (x1187) ((lambda (x1188) ((lambda (x1189) ((lambda (x1190) ((lambda (x1191) ((lambda (x1192) ((lambda (x1193) ((lambda (x1194) ((lambda (x1195) ((lambda (x1196) ((lambda (x1197) ((lambda (x1198) ((lambda (x1199) ((lambda (x1200) ((lambda (x1201) ((lambda (x1202) ((lambda (x1203) ((lambda (x1204) ((lambda (x1205) ((lambda (x1206) ((lambda (x1207) ((lambda (x1208) ((lambda (x1209) ((lambda (x1210) ((lambda (x1211) ((lambda (x1212) ((lambda (x1213) ((lambda (x1214) ((lambda (x1215) ((lambda (x1216) ((lambda (x1217) ((lambda (x1218) ((lambda (x1219) ((lambda (x1220) ((lambda (x1221) ((lambda (x1222) ((lambda (x1223) ((lambda (x1224) ((lambda (x1225) ((lambda (x1226) ((lambda (x1227) ((lambda (x1228) ((lambda (x1229) ((lambda (x1230) ((lambda (x1231) ((lambda (x1232) ((lambda (x1233) ((lambda (x1234) ((lambda (x1235) ((lambda (x1236) ((lambda (x1237) ((lambda (x1238) ((lambda (x1239) ((lambda (x1240) ((lambda (x1241) ((lambda (x1242) ((lambda (x1243) ((lambda (x1244) ((lambda (x1245) ((lambda (x1246) ((lambda (x1247) ((lambda (x1248) ((lambda (x1249) ((lambda (x1250) ((lambda (x1251) ((lambda (x1252) ((lambda (x1253) ((lambda (x1254) ((lambda (x1255) ((lambda (x1256) ((lambda (x1257) ((lambda (x1258) ((lambda (x1259) ((lambda (x1260) ((lambda (x1261) ((lambda (x1262) ((lambda (x1263) ((lambda (x1264) ((lambda (x1265) ((lambda (x1266) ((lambda (x1267) ((lambda (x1268) ((lambda (x1269) ((lambda (x1270) ((lambda (x1271) ((lambda (x1272) ((lambda (x1273) ((lambda (x1274) ((lambda (x1275) ((lambda (x1276) ((lambda (x1277) ((lambda (x1278) ((lambda (x1279) ((lambda (x1280) ((lambda (x1281) ((lambda (x1282) ((lambda (x1283) ((lambda (x1284) ((lambda (x1285) ((lambda (x1286) ((lambda (x1287) ((lambda (x1288) ((lambda (x1289) ((lambda (x1290) ((lambda (x1291) ((lambda (x1292) ((lambda (x1293) ((lambda (x1294) ((lambda (x1295) ((lambda (x1296) ((lambda (x1297) ((lambda (x1298) ((lambda (x1299) ((lambda (x1300) ((lambda (x1301) ((lambda (x1302) ((lambda (x1303) ((lambda (x1304) ((lambda (x1305) ((lambda (x1306) ((lambda (x1307) ((lambda (x1308) ((lambda (x1309) ((lambda (x1310) ((lambda (x1311) ((lambda (x1312) ((lambda (x1313) ((lambda (x1314) ((lambda (x1315) ((lambda (x1316) ((lambda (x1317) ((lambda (x1318) ((lambda (x1319) ((lambda (x1320) ((lambda (x1321) ((lambda (x1322) ((lambda (x1323) ((lambda (x1324) ((lambda (x1325) ((lambda (x1326) ((lambda (x1327) ((lambda (x1328) ((lambda (x1329) ((lambda (x1330) ((lambda (x1331) ((lambda (x1332) ((lambda (x1333) ((lambda (x1334) ((lambda (x1335) ((lambda (x1336) ((lambda (x1337) ((lambda (x1338) ((lambda (x1339) ((lambda (x1340) ((lambda (x1341) ((lambda (x1342) ((lambda (x1343) ((lambda (x1344) ((lambda (x1345) ((lambda (x1346) ((lambda (x1347) ((lambda (x1348) ((lambda (x1349) ((lambda (x1350) ((lambda (x1351) ((lambda (x1352) ((lambda (x1353) ((lambda (x1354) ((lambda (x1355) ((lambda (x1356) ((lambda (x1357) ((lambda (x1358) ((lambda (x1359) ((lambda (x1360) ((lambda (x1361) ((lambda (x1362) ((lambda (x1363) ((lambda (x1364) ((lambda (x1365) ((lambda (x1366) ((lambda (x1367) ((lambda (x1368) ((lambda (x1369) ((lambda (x1370) ((lambda (x1371) ((lambda (x1372) ((lambda (x1373) ((lambda (x1374) ((lambda (x1375) ((lambda (x1376) ((lambda (x1377) ((lambda (x1378) ((lambda (x1379) ((lambda (x1380) ((lambda (x1381) ((lambda (x1382) ((lambda (x1383) ((lambda (x1384) ((lambda (x1385) ((lambda (x1386) ((lambda (x1387) ((lambda (x1388) ((lambda (x1389) ((lambda (x1390) ((lambda (x1391) ((lambda (x1392) ((lambda (x1393) ((lambda (x1394) ((lambda (x1395) ((lambda (x1396) ((lambda (x1397) ((lambda (x1398) ((lambda (x1399) ((lambda (x1400) ((lambda (x1401) ((lambda (x1402) ((lambda (x1403) ((lambda (x1404) ((lambda (x1405) ((lambda (x1406) ((lambda (x1407) ((lambda (x1408) ((lambda (x1409) ((lambda (x1410) ((lambda (x1411) ((lambda (x1412) ((lambda (x1413) ((lambda (x1414) ((lambda (x1415) ((lambda (x1416) ((lambda (x1417) ((lambda (x1418) ((lambda (x1419) ((lambda (x1420) ((lambda (x1421) ((lambda (x1422) ((lambda (x1423) ((lambda (x1424) ((lambda (x1425) ((lambda (x1426) ((lambda (x1427) ((lambda (x1428) ((lambda (x1429) ((lambda (x1430) ((lambda (x1431) ((lambda (x1432) ((lambda (x1433) ((lambda (x1434) ((lambda (x1435) ((lambda (x1436) ((lambda (x1437) ((lambda (x1438) ((lambda (x1439) ((lambda (x1440) ((lambda (x1441) ((lambda (x1442) ((lambda (x1443) ((lambda (x1444) ((lambda (x1445) ((lambda (x1446) ((lambda (x1447) ((lambda (x1448) ((lambda (x1449) ((lambda (x1450) ((lambda (x1451) ((lambda (x1452) ((lambda (x1453) ((lambda (x1454) ((lambda (x1455) ((lambda (x1456) ((lambda (x1457) ((lambda (x1458) ((lambda (x1459) ((lambda (x1460) ((lambda (x1461) ((lambda (x1462) ((lambda (x1463) ((lambda (x1464) ((lambda (x1465) ((lambda (x1466) ((lambda (x1467) ((lambda (x1468) ((lambda (x1469) ((lambda (x1470) ((lambda (x1471) ((lambda (x1472) ((lambda (x1473) ((lambda (x1474) ((lambda (x1475) ((lambda (x1476) ((lambda (x1477) ((lambda (x1478) ((lambda (x1479) ((lambda (x1480) ((lambda (x1481) ((lambda (x1482) ((lambda (x1483) ((lambda (x1484) ((lambda (x1485) ((lambda (x1486) ((lambda (x1487) ((lambda (x1488) ((lambda (x1489) ((lambda (x1490) ((lambda (x1491) ((lambda (x1492) ((lambda (x1493) ((lambda (x1494) ((lambda (x1495) ((lambda (x1496) ((lambda (x1497) ((lambda (x1498) ((lambda (x1499) ((lambda (x1500) ((lambda (x1501) ((lambda (x1502) ((lambda (x1503) ((lambda (x1504) ((lambda (x1505) ((lambda (x1506) ((lambda (x1507) ((lambda (x1508) ((lambda (x1509) ((lambda (x1510) ((lambda (x1511) ((lambda (x1512) ((lambda (x1513) ((lambda (x1514) ((lambda (x1515) ((lambda (x1516) ((lambda (x1517) ((lambda (x1518) ((lambda (x1519) ((lambda (x1520) ((lambda (x1521) ((lambda (x1522) ((lambda (x1523) ((lambda (x1524) ((lambda (x1525) ((lambda (x1526) ((lambda (x1527) ((lambda (x1528) ((lambda (x1529) ((lambda (x1530) ((lambda (x1531) ((lambda (x1532) ((lambda (x1533) ((lambda (x1534) ((lambda (x1535) ((lambda (x1536) ((lambda (x1537) ((lambda (x1538) ((lambda (x1539) ((lambda (x1540) ((lambda (x1541) ((lambda (x1542) ((lambda (x1543) ((lambda (x1544) ((lambda (x1545) ((lambda (x1546) ((lambda (x1547) ((lambda (x1548) ((lambda (x1549) ((lambda (x1550) ((lambda (x1551) ((lambda (x1552) ((lambda (x1553) ((lambda (x1554) ((lambda (x1555) ((lambda (x1556) ((lambda (x1557) ((lambda (x1558) ((lambda (x1559) ((lambda (x1560) ((lambda (x1561) ((lambda (x1562) ((lambda (x1563) ((lambda (x1564) ((lambda (x1565) ((lambda (x1566) ((lambda (x1567) ((lambda (x1568) ((lambda (x1569) ((lambda (x1570) ((lambda (x1571) ((lambda (x1572) ((lambda (x1573) ((lambda (x1574) ((lambda (x1575) ((lambda (x1576) ((lambda (x1577) ((lambda (x1578) ((lambda (x1579) ((lambda (x1580) ((lambda (x1581) ((lambda (x1582) ((lambda (x1583) ((lambda (x1584) ((lambda (x1585) ((lambda (x1586) ((lambda (x1587) ((lambda (x1588) ((lambda (x1589) ((lambda (x1590) ((lambda (x1591) ((lambda (x1592) ((lambda (x1593) ((lambda (x1594) ((lambda (x1595) ((lambda (x1596) ((lambda (x1597) ((lambda (x1598) ((lambda (x1599) ((lambda (x1600) ((lambda (x1601) ((lambda (x1602) ((lambda (x1603) ((lambda (x1604) ((lambda (x1605) ((lambda (x1606) ((lambda (x1607) ((lambda (x1608) ((lambda (x1609) ((lambda (x1610) ((lambda (x1611) ((lambda (x1612) ((lambda (x1613) ((lambda (x1614) ((lambda (x1615) ((lambda (x1616) ((lambda (x1617) ((lambda (x1618) ((lambda (x1619) ((lambda (x1620) ((lambda (x1621) ((lambda (x1622) ((lambda (x1623) ((lambda (x1624) ((lambda (x1625) ((lambda (x1626) ((lambda (x1627) ((lambda (x1628) ((lambda (x1629) ((lambda (x1630) ((lambda (x1631) ((lambda (x1632) ((lambda (x1633) ((lambda (x1634) ((lambda (x1635) ((lambda (x1636) ((lambda (x1637) ((lambda (x1638) ((lambda (x1639) ((lambda (x1640) ((lambda (x1641) ((lambda (x1642) ((lambda (x1643) ((lambda (x1644) ((lambda (x1645) ((lambda (x1646) ((lambda (x1647) ((lambda (x1648) ((lambda (x1649) ((lambda (x1650) ((lambda (x1651) ((lambda (x1652) ((lambda (x1653) ((lambda (x1654) ((lambda (x1655) ((lambda (x1656) ((lambda (x1657) ((lambda (x1658) ((lambda (x1659) ((lambda (x1660) ((lambda (x1661) ((lambda (x1662) ((lambda (x1663) ((lambda (x1664) ((lambda (x1665) ((lambda (x1666) ((lambda (x1667) ((lambda (x1668) ((lambda (x1669) ((lambda (x1670) ((lambda (x1671) ((lambda (x1672) ((lambda (x1673) ((lambda (x1674) ((lambda (x1675) ((lambda (x1676) ((lambda (x1677) ((lambda (x1678) ((lambda (x1679) ((lambda (x1680) ((lambda (x1681) ((lambda (x1682) ((lambda (x1683) ((lambda (x1684) ((lambda (x1685) ((lambda (x1686) ((lambda (x1687) ((lambda (x1688) ((lambda (x1689) ((lambda (x1690) ((lambda (x1691) ((lambda (x1692) ((lambda (x1693) ((lambda (x1694) ((lambda (x1695) ((lambda (x1696) ((lambda (x1697) ((lambda (x1698) ((lambda (x1699) ((lambda (x1700) ((lambda (x1701) ((lambda (x1702) ((lambda (x1703) ((lambda (x1704) ((lambda (x1705) ((lambda (x1706) ((lambda (x1707) ((lambda (x1708) ((lambda (x1709) ((lambda (x1710) ((lambda (x1711) ((lambda (x1712) ((lambda (x1713) ((lambda (x1714) ((lambda (x1715) ((lambda (x1716) ((lambda (x1717) ((lambda (x1718) ((lambda (x1719) ((lambda (x1720) ((lambda (x1721) ((lambda (x1722) ((lambda (x1723) ((lambda (x1724) ((lambda (x1725) ((lambda (x1726) ((lambda (x1727) ((lambda (x1728) ((lambda (x1729) ((lambda (x1730) ((lambda (x1731) ((lambda (x1732) ((lambda (x1733) ((lambda (x1734) ((lambda (x1735) ((lambda (x1736) ((lambda (x1737) ((lambda (x1738) ((lambda (x1739) ((lambda (x1740) ((lambda (x1741) ((lambda (x1742) ((lambda (x1743) ((lambda (x1744) ((lambda (x1745) ((lambda (x1746) ((lambda (x1747) ((lambda (x1748) ((lambda (x1749) ((lambda (x1750) ((lambda (x1751) ((lambda (x1752) ((lambda (x1753) ((lambda (x1754) ((lambda (x1755) ((lambda (x1756) ((lambda (x1757) ((lambda (x1758) ((lambda (x1759) ((lambda (x1760) ((lambda (x1761) ((lambda (x1762) ((lambda (x1763) ((lambda (x1764) ((lambda (x1765) ((lambda (x1766) ((lambda (x1767) ((lambda (x1768) ((lambda (x1769) ((lambda (x1770) ((lambda (x1771) ((lambda (x1772) ((lambda (x1773) ((lambda (x1774) ((lambda (x1775) ((lambda (x1776) ((lambda (x1777) ((lambda (x1778) ((lambda (x1779) ((lambda (x1780) ((lambda (x1781) ((lambda (x1782) ((lambda (x1783) ((lambda (x1784) ((lambda (x1785) ((lambda (x1786) ((lambda (x1787) ((lambda (x1788) ((lambda (x1789) ((lambda (x1790) ((lambda (x1791) ((lambda (x1792) ((lambda (x1793) ((lambda (x1794) ((lambda (x1795) ((lambda (x1796) ((lambda (x1797) ((lambda (x1798) ((lambda (x1799) ((lambda (x1800) ((lambda (x1801) ((lambda (x1802) ((lambda (x1803) ((lambda (x1804) ((lambda (x1805) ((lambda (x1806) ((lambda (x1807) ((lambda (x1808) ((lambda (x1809) ((lambda (x1810) ((lambda (x1811) ((lambda (x1812) ((lambda (x1813) ((lambda (x1814) ((lambda (x1815) ((lambda (x1816) ((lambda (x1817) ((lambda (x1818) ((lambda (x1819) ((lambda (x1820) ((lambda (x1821) ((lambda (x1822) ((lambda (x1823) ((lambda (x1824) ((lambda (x1825) ((lambda (x1826) ((lambda (x1827) ((lambda (x1828) ((lambda (x1829) ((lambda (x1830) ((lambda (x1831) ((lambda (x1832) ((lambda (x1833) ((lambda (x1834) ((lambda (x1835) ((lambda (x1836) ((lambda (x1837) ((lambda (x1838) ((lambda (x1839) ((lambda (x1840) ((lambda (x1841) ((lambda (x1842) ((lambda (x1843) ((lambda (x1844) ((lambda (x1845) ((lambda (x1846) ((lambda (x1847) ((lambda (x1848) ((lambda (x1849) ((lambda (x1850) ((lambda (x1851) ((lambda (x1852) ((lambda (x1853) ((lambda (x1854) ((lambda (x1855) ((lambda (x1856) ((lambda (x1857) ((lambda (x1858) ((lambda (x1859) ((lambda (x1860) ((lambda (x1861) ((lambda (x1862) ((lambda (x1863) ((lambda (x1864) ((lambda (x1865) ((lambda (x1866) ((lambda (x1867) ((lambda (x1868) ((lambda (x1869) ((lambda (x1870) ((lambda (x1871) ((lambda (x1872) ((lambda (x1873) ((lambda (x1874) ((lambda (x1875) ((lambda (x1876) ((lambda (x1877) ((lambda (x1878) ((lambda (x1879) ((lambda (x1880) ((lambda (x1881) ((lambda (x1882) ((lambda (x1883) ((lambda (x1884) ((lambda (x1885) ((lambda (x1886) ((lambda (x1887) ((lambda (x1888) ((lambda (x1889) ((lambda (x1890) ((lambda (x1891) ((lambda (x1892) ((lambda (x1893) ((lambda (x1894) ((lambda (x1895) ((lambda (x1896) ((lambda (x1897) ((lambda (x1898) ((lambda (x1899) ((lambda (x1900) ((lambda (x1901) ((lambda (x1902) ((lambda (x1903) ((lambda (x1904) ((lambda (x1905) ((lambda (x1906) ((lambda (x1907) ((lambda (x1908) ((lambda (x1909) ((lambda (x1910) ((lambda (x1911) ((lambda (x1912) ((lambda (x1913) ((lambda (x1914) ((lambda (x1915) ((lambda (x1916) ((lambda (x1917) ((lambda (x1918) ((lambda (x1919) ((lambda (x1920) ((lambda (x1921) ((lambda (x1922) ((lambda (x1923) ((lambda (x1924) ((lambda (x1925) ((lambda (x1926) ((lambda (x1927) ((lambda (x1928) ((lambda (x1929) ((lambda (x1930) ((lambda (x1931) ((lambda (x1932) ((lambda (x1933) ((lambda (x1934) ((lambda (x1935) ((lambda (x1936) ((lambda (x1937) ((lambda (x1938) ((lambda (x1939) ((lambda (x1940) ((lambda (x1941) ((lambda (x1942) ((lambda (x1943) ((lambda (x1944) ((lambda (x1945) ((lambda (x1946) ((lambda (x1947) ((lambda (x1948) ((lambda (x1949) ((lambda (x1950) ((lambda (x1951) ((lambda (x1952) ((lambda (x1953) ((lambda (x1954) ((lambda (x1955) ((lambda (x1956) ((lambda (x1957) ((lambda (x1958) ((lambda (x1959) ((lambda (x1960) ((lambda (x1961) ((lambda (x1962) ((lambda (x1963) ((lambda (x1964) ((lambda (x1965) ((lambda (x1966) ((lambda (x1967) ((lambda (x1968) ((lambda (x1969) ((lambda (x1970) ((lambda (x1971) ((lambda (x1972) ((lambda (x1973) ((lambda (x1974) ((lambda (x1975) ((lambda (x1976) ((lambda (x1977) ((lambda (x1978) ((lambda (x1979) ((lambda (x1980) ((lambda (x1981) ((lambda (x1982) ((lambda (x1983) ((lambda (x1984) ((lambda (x1985) ((lambda (x1986) ((lambda (x1987) ((lambda (x1988) ((lambda (x1989) ((lambda (x1990) ((lambda (x1991) ((lambda (x1992) ((lambda (x1993) ((lambda (x1994) ((lambda (x1995) ((lambda (x1996) ((lambda (x1997) ((lambda (x1998) ((lambda (x1999) ((lambda (x2000) x2000) (add x1999 1))) (add x1998 1))) (add x1997 1))) (add x1996 1))) (add x1995 1))) (add x1994 1))) (add x1993 1))) (add x1992 1))) (add x1991 1))) (add x1990 1))) (add x1989 1))) (add x1988 1))) (add x1987 1))) (add x1986 1))) (add x1985 1))) (add x1984 1))) (add x1983 1))) (add x1982 1))) (add x1981 1))) (add x1980 1))) (add x1979 1))) (add x1978 1))) (add x1977 1))) (add x1976 1))) (add x1975 1))) (add x1974 1))) (add x1973 1))) (add x1972 1))) (add x1971 1))) (add x1970 1))) (add x1969 1))) (add x1968 1))) (add x1967 1))) (add x1966 1))) (add x1965 1))) (add x1964 1))) (add x1963 1))) (add x1962 1))) (add x1961 1))) (add x1960 1))) (add x1959 1))) (add x1958 1))) (add x1957 1))) (add x1956 1))) (add x1955 1))) (add x1954 1))) (add x1953 1))) (add x1952 1))) (add x1951 1))) (add x1950 1))) (add x1949 1))) (add x1948 1))) (add x1947 1))) (add x1946 1))) (add x1945 1))) (add x1944 1))) (add x1943 1))) (add x1942 1))) (add x1941 1))) (add x1940 1))) (add x1939 1))) (add x1938 1))) (add x1937 1))) (add x1936 1))) (add x1935 1))) (add x1934 1))) (add x1933 1))) (add x1932 1))) (add x1931 1))) (add x1930 1))) (add x1929 1))) (add x1928 1))) (add x1927 1))) (add x1926 1))) (add x1925 1))) (add x1924 1))) (add x1923 1))) (add x1922 1))) (add x1921 1))) (add x1920 1))) (add x1919 1))) (add x1918 1))) (add x1917 1))) (add x1916 1))) (add x1915 1))) (add x1914 1))) (add x1913 1))) (add x1912 1))) (add x1911 1))) (add x1910 1))) (add x1909 1))) (add x1908 1))) (add x1907 1))) (add x1906 1))) (add x1905 1))) (add x1904 1))) (add x1903 1))) (add x1902 1))) (add x1901 1))) (add x1900 1))) (add x1899 1))) (add x1898 1))) (add x1897 1))) (add x1896 1))) (add x1895 1))) (add x1894 1))) (add x1893 1))) (add x1892 1))) (add x1891 1))) (add x1890 1))) (add x1889 1))) (add x1888 1))) (add x1887 1))) (add x1886 1))) (add x1885 1))) (add x1884 1))) (add x1883 1))) (add x1882 1))) (add x1881 1))) (add x1880 1))) (add x1879 1))) (add x1878 1))) (add x1877 1))) (add x1876 1))) (add x1875 1))) (add x1874 1))) (add x1873 1))) (add x1872 1))) (add x1871 1))) (add x1870 1))) (add x1869 1))) (add x1868 1))) (add x1867 1))) (add x1866 1))) (add x1865 1))) (add x1864 1))) (add x1863 1))) (add x1862 1))) (add x1861 1))) (add x1860 1))) (add x1859 1))) (add x1858 1))) (add x1857 1))) (add x1856 1))) (add x1855 1))) (add x1854 1))) (add x1853 1))) (add x1852 1))) (add x1851 1))) (add x1850 1))) (add x1849 1))) (add x1848 1))) (add x1847 1))) (add x1846 1))) (add x1845 1))) (add x1844 1))) (add x1843 1))) (add x1842 1))) (add x1841 1))) (add x1840 1))) (add x1839 1))) (add x1838 1))) (add x1837 1))) (add x1836 1))) (add x1835 1))) (add x1834 1))) (add x1833 1))) (add x1832 1))) (add x1831 1))) (add x1830 1))) (add x1829 1))) (add x1828 1))) (add x1827 1))) (add x1826 1))) (add x1825 1))) (add x1824 1))) (add x1823 1))) (add x1822 1))) (add x1821 1))) (add x1820 1))) (add x1819 1))) (add x1818 1))) (add x1817 1))) (add x1816 1))) (add x1815 1))) (add x1814 1))) (add x1813 1))) (add x1812 1))) (add x1811 1))) (add x1810 1))) (add x1809 1))) (add x1808 1))) (add x1807 1))) (add x1806 1))) (add x1805 1))) (add x1804 1))) (add x1803 1))) (add x1802 1))) (add x1801 1))) (add x1800 1))) (add x1799 1))) (add x1798 1))) (add x1797 1))) (add x1796 1))) (add x1795 1))) (add x1794 1))) (add x1793 1))) (add x1792 1))) (add x1791 1))) (add x1790 1))) (add x1789 1))) (add x1788 1))) (add x1787 1))) (add x1786 1))) (add x1785 1))) (add x1784 1))) (add x1783 1))) (add x1782 1))) (add x1781 1))) (add x1780 1))) (add x1779 1))) (add x1778 1))) (add x1777 1))) (add x1776 1))) (add x1775 1))) (add x1774 1))) (add x1773 1))) (add x1772 1))) (add x1771 1))) (add x1770 1))) (add x1769 1))) (add x1768 1))) (add x1767 1))) (add x1766 1))) (add x1765 1))) (add x1764 1))) (add x1763 1))) (add x1762 1))) (add x1761 1))) (add x1760 1))) (add x1759 1))) (add x1758 1))) (add x1757 1))) (add x1756 1))) (add x1755 1))) (add x1754 1))) (add x1753 1))) (add x1752 1))) (add x1751 1))) (add x1750 1))) (add x1749 1))) (add x1748 1))) (add x1747 1))) (add x1746 1))) (add x1745 1))) (add x1744 1))) (add x1743 1))) (add x1742 1))) (add x1741 1))) (add x1740 1))) (add x1739 1))) (add x1738 1))) (add x1737 1))) (add x1736 1))) (add x1735 1))) (add x1734 1))) (add x1733 1))) (add x1732 1))) (add x1731 1))) (add x1730 1))) (add x1729 1))) (add x1728 1))) (add x1727 1))) (add x1726 1))) (add x1725 1))) (add x1724 1))) (add x1723 1))) (add x1722 1))) (add x1721 1))) (add x1720 1))) (add x1719 1))) (add x1718 1))) (add x1717 1))) (add x1716 1))) (add x1715 1))) (add x1714 1))) (add x1713 1))) (add x1712 1))) (add x1711 1))) (add x1710 1))) (add x1709 1))) (add x1708 1))) (add x1707 1))) (add x1706 1))) (add x1705 1))) (add x1704 1))) (add x1703 1))) (add x1702 1))) (add x1701 1))) (add x1700 1))) (add x1699 1))) (add x1698 1))) (add x1697 1))) (add x1696 1))) (add x1695 1))) (add x1694 1))) (add x1693 1))) (add x1692 1))) (add x1691 1))) (add x1690 1))) (add x1689 1))) (add x1688 1))) (add x1687 1))) (add x1686 1))) (add x1685 1))) (add x1684 1))) (add x1683 1))) (add x1682 1))) (add x1681 1))) (add x1680 1))) (add x1679 1))) (add x1678 1))) (add x1677 1))) (add x1676 1))) (add x1675 1))) (add x1674 1))) (add x1673 1))) (add x1672 1))) (add x1671 1))) (add x1670 1))) (add x1669 1))) (add x1668 1))) (add x1667 1))) (add x1666 1))) (add x1665 1))) (add x1664 1))) (add x1663 1))) (add x1662 1))) (add x1661 1))) (add x1660 1))) (add x1659 1))) (add x1658 1))) (add x1657 1))) (add x1656 1))) (add x1655 1))) (add x1654 1))) (add x1653 1))) (add x1652 1))) (add x1651 1))) (add x1650 1))) (add x1649 1))) (add x1648 1))) (add x1647 1))) (add x1646 1))) (add x1645 1))) (add x1644 1))) (add x1643 1))) (add x1642 1))) (add x1641 1))) (add x1640 1))) (add x1639 1))) (add x1638 1))) (add x1637 1))) (add x1636 1))) (add x1635 1))) (add x1634 1))) (add x1633 1))) (add x1632 1))) (add x1631 1))) (add x1630 1))) (add x1629 1))) (add x1628 1))) (add x1627 1))) (add x1626 1))) (add x1625 1))) (add x1624 1))) (add x1623 1))) (add x1622 1))) (add x1621 1))) (add x1620 1))) (add x1619 1))) (add x1618 1))) (add x1617 1))) (add x1616 1))) (add x1615 1))) (add x1614 1))) (add x1613 1))) (add x1612 1))) (add x1611 1))) (add x1610 1))) (add x1609 1))) (add x1608 1))) (add x1607 1))) (add x1606 1))) (add x1605 1))) (add x1604 1))) (add x1603 1))) (add x1602 1))) (add x1601 1))) (add x1600 1))) (add x1599 1))) (add x1598 1))) (add x1597 1))) (add x1596 1))) (add x1595 1))) (add x1594 1))) (add x1593 1))) (add x1592 1))) (add x1591 1))) (add x1590 1))) (add x1589 1))) (add x1588 1))) (add x1587 1))) (add x1586 1))) (add x1585 1))) (add x1584 1))) (add x1583 1))) (add x1582 1))) (add x1581 1))) (add x1580 1))) (add x1579 1))) (add x1578 1))) (add x1577 1))) (add x1576 1))) (add x1575 1))) (add x1574 1))) (add x1573 1))) (add x1572 1))) (add x1571 1))) (add x1570 1))) (add x1569 1))) (add x1568 1))) (add x1567 1))) (add x1566 1))) (add x1565 1))) (add x1564 1))) (add x1563 1))) (add x1562 1))) (add x1561 1))) (add x1560 1))) (add x1559 1))) (add x1558 1))) (add x1557 1))) (add x1556 1))) (add x1555 1))) (add x1554 1))) (add x1553 1))) (add x1552 1))) (add x1551 1))) (add x1550 1))) (add x1549 1))) (add x1548 1))) (add x1547 1))) (add x1546 1))) (add x1545 1))) (add x1544 1))) (add x1543 1))) (add x1542 1))) (add x1541 1))) (add x1540 1))) (add x1539 1))) (add x1538 1))) (add x1537 1))) (add x1536 1))) (add x1535 1))) (add x1534 1))) (add x1533 1))) (add x1532 1))) (add x1531 1))) (add x1530 1))) (add x1529 1))) (add x1528 1))) (add x1527 1))) (add x1526 1))) (add x1525 1))) (add x1524 1))) (add x1523 1))) (add x1522 1))) (add x1521 1))) (add x1520 1))) (add x1519 1))) (add x1518 1))) (add x1517 1))) (add x1516 1))) (add x1515 1))) (add x1514 1))) (add x1513 1))) (add x1512 1))) (add x1511 1))) (add x1510 1))) (add x1509 1))) (add x1508 1))) (add x1507 1))) (add x1506 1))) (add x1505 1))) (add x1504 1))) (add x1503 1))) (add x1502 1))) (add x1501 1))) (add x1500 1))) (add x1499 1))) (add x1498 1))) (add x1497 1))) (add x1496 1))) (add x1495 1))) (add x1494 1))) (add x1493 1))) (add x1492 1))) (add x1491 1))) (add x1490 1))) (add x1489 1))) (add x1488 1))) (add x1487 1))) (add x1486 1))) (add x1485 1))) (add x1484 1))) (add x1483 1))) (add x1482 1))) (add x1481 1))) (add x1480 1))) (add x1479 1))) (add x1478 1))) (add x1477 1))) (add x1476 1))) (add x1475 1))) (add x1474 1))) (add x1473 1))) (add x1472 1))) (add x1471 1))) (add x1470 1))) (add x1469 1))) (add x1468 1))) (add x1467 1))) (add x1466 1))) (add x1465 1))) (add x1464 1))) (add x1463 1))) (add x1462 1))) (add x1461 1))) (add x1460 1))) (add x1459 1))) (add x1458 1))) (add x1457 1))) (add x1456 1))) (add x1455 1))) (add x1454 1))) (add x1453 1))) (add x1452 1))) (add x1451 1))) (add x1450 1))) (add x1449 1))) (add x1448 1))) (add x1447 1))) (add x1446 1))) (add x1445 1))) (add x1444 1))) (add x1443 1))) (add x1442 1))) (add x1441 1))) (add x1440 1))) (add x1439 1))) (add x1438 1))) (add x1437 1))) (add x1436 1))) (add x1435 1))) (add x1434 1))) (add x1433 1))) (add x1432 1))) (add x1431 1))) (add x1430 1))) (add x1429 1))) (add x1428 1))) (add x1427 1))) (add x1426 1))) (add x1425 1))) (add x1424 1))) (add x1423 1))) (add x1422 1))) (add x1421 1))) (add x1420 1))) (add x1419 1))) (add x1418 1))) (add x1417 1))) (add x1416 1))) (add x1415 1))) (add x1414 1))) (add x1413 1))) (add x1412 1))) (add x1411 1))) (add x1410 1))) (add x1409 1))) (add x1408 1))) (add x1407 1))) (add x1406 1))) (add x1405 1))) (add x1404 1))) (add x1403 1))) (add x1402 1))) (add x1401 1))) (add x1400 1))) (add x1399 1))) (add x1398 1))) (add x1397 1))) (add x1396 1))) (add x1395 1))) (add x1394 1))) (add x1393 1))) (add x1392 1))) (add x1391 1))) (add x1390 1))) (add x1389 1))) (add x1388 1))) (add x1387 1))) (add x1386 1))) (add x1385 1))) (add x1384 1))) (add x1383 1))) (add x1382 1))) (add x1381 1))) (add x1380 1))) (add x1379 1))) (add x1378 1))) (add x1377 1))) (add x1376 1))) (add x1375 1))) (add x1374 1))) (add x1373 1))) (add x1372 1))) (add x1371 1))) (add x1370 1))) (add x1369 1))) (add x1368 1))) (add x1367 1))) (add x1366 1))) (add x1365 1))) (add x1364 1))) (add x1363 1))) (add x1362 1))) (add x1361 1))) (add x1360 1))) (add x1359 1))) (add x1358 1))) (add x1357 1))) (add x1356 1))) (add x1355 1))) (add x1354 1))) (add x1353 1))) (add x1352 1))) (add x1351 1))) (add x1350 1))) (add x1349 1))) (add x1348 1))) (add x1347 1))) (add x1346 1))) (add x1345 1))) (add x1344 1))) (add x1343 1))) (add x1342 1))) (add x1341 1))) (add x1340 1))) (add x1339 1))) (add x1338 1))) (add x1337 1))) (add x1336 1))) (add x1335 1))) (add x1334 1))) (add x1333 1))) (add x1332 1))) (add x1331 1))) (add x1330 1))) (add x1329 1))) (add x1328 1))) (add x1327 1))) (add x1326 1))) (add x1325 1))) (add x1324 1))) (add x1323 1))) (add x1322 1))) (add x1321 1))) (add x1320 1))) (add x1319 1))) (add x1318 1))) (add x1317 1))) (add x1316 1))) (add x1315 1))) (add x1314 1))) (add x1313 1))) (add x1312 1))) (add x1311 1))) (add x1310 1))) (add x1309 1))) (add x1308 1))) (add x1307 1))) (add x1306 1))) (add x1305 1))) (add x1304 1))) (add x1303 1))) (add x1302 1))) (add x1301 1))) (add x1300 1))) (add x1299 1))) (add x1298 1))) (add x1297 1))) (add x1296 1))) (add x1295 1))) (add x1294 1))) (add x1293 1))) (add x1292 1))) (add x1291 1))) (add x1290 1))) (add x1289 1))) (add x1288 1))) (add x1287 1))) (add x1286 1))) (add x1285 1))) (add x1284 1))) (add x1283 1))) (add x1282 1))) (add x1281 1))) (add x1280 1))) (add x1279 1))) (add x1278 1))) (add x1277 1))) (add x1276 1))) (add x1275 1))) (add x1274 1))) (add x1273 1))) (add x1272 1))) (add x1271 1))) (add x1270 1))) (add x1269 1))) (add x1268 1))) (add x1267 1))) (add x1266 1))) (add x1265 1))) (add x1264 1))) (add x1263 1))) (add x1262 1))) (add x1261 1))) (add x1260 1))) (add x1259 1))) (add x1258 1))) (add x1257 1))) (add x1256 1))) (add x1255 1))) (add x1254 1))) (add x1253 1))) (add x1252 1))) (add x1251 1))) (add x1250 1))) (add x1249 1))) (add x1248 1))) (add x1247 1))) (add x1246 1))) (add x1245 1))) (add x1244 1))) (add x1243 1))) (add x1242 1))) (add x1241 1))) (add x1240 1))) (add x1239 1))) (add x1238 1))) (add x1237 1))) (add x1236 1))) (add x1235 1))) (add x1234 1))) (add x1233 1))) (add x1232 1))) (add x1231 1))) (add x1230 1))) (add x1229 1))) (add x1228 1))) (add x1227 1))) (add x1226 1))) (add x1225 1))) (add x1224 1))) (add x1223 1))) (add x1222 1))) (add x1221 1))) (add x1220 1))) (add x1219 1))) (add x1218 1))) (add x1217 1))) (add x1216 1))) (add x1215 1))) (add x1214 1))) (add x1213 1))) (add x1212 1))) (add x1211 1))) (add x1210 1))) (add x1209 1))) (add x1208 1))) (add x1207 1))) (add x1206 1))) (add x1205 1))) (add x1204 1))) (add x1203 1))) (add x1202 1))) (add x1201 1))) (add x1200 1))) (add x1199 1))) (add x1198 1))) (add x1197 1))) (add x1196 1))) (add x1195 1))) (add x1194 1))) (add x1193 1))) (add x1192 1))) (add x1191 1))) (add x1190 1))) (add x1189 1))) (add x1188 1))) (add x1187 1))) (add x1186 1))) (add x1185 1))) (add x1184 1))) (add x1183 1))) (add x1182 1))) (add x1181 1))) (add x1180 1))) (add x1179 1))) (add x1178 1))) (add x1177 1))) (add x1176 1))) (add x1175 1))) (add x1174 1))) (add x1173 1))) (add x1172 1))) (add x1171 1))) (add x1170 1))) (add x1169 1))) (add x1168 1))) (add x1167 1))) (add x1166 1))) (add x1165 1))) (add x1164 1))) (add x1163 1))) (add x1162 1))) (add x1161 1))) (add x1160 1))) (add x1159 1))) (add x1158 1))) (add x1157 1))) (add x1156 1))) (add x1155 1))) (add x1154 1))) (add x1153 1))) (add x1152 1))) (add x1151 1))) (add x1150 1))) (add x1149 1))) (add x1148 1))) (add x1147 1))) (add x1146 1))) (add x1145 1))) (add x1144 1))) (add x1143 1))) (add x1142 1))) (add x1141 1))) (add x1140 1))) (add x1139 1))) (add x1138 1))) (add x1137 1))) (add x1136 1))) (add x1135 1))) (add x1134 1))) (add x1133 1))) (add x1132 1))) (add x1131 1))) (add x1130 1))) (add x1129 1))) (add x1128 1))) (add x1127 1))) (add x1126 1))) (add x1125 1))) (add x1124 1))) (add x1123 1))) (add x1122 1))) (add x1121 1))) (add x1120 1))) (add x1119 1))) (add x1118 1))) (add x1117 1))) (add x1116 1))) (add x1115 1))) (add x1114 1))) (add x1113 1))) (add x1112 1))) (add x1111 1))) (add x1110 1))) (add x1109 1))) (add x1108 1))) (add x1107 1))) (add x1106 1))) (add x1105 1))) (add x1104 1))) (add x1103 1))) (add x1102 1))) (add x1101 1))) (add x1100 1))) (add x1099 1))) (add x1098 1))) (add x1097 1))) (add x1096 1))) (add x1095 1))) (add x1094 1))) (add x1093 1))) (add x1092 1))) (add x1091 1))) (add x1090 1))) (add x1089 1))) (add x1088 1))) (add x1087 1))) (add x1086 1))) (add x1085 1))) (add x1084 1))) (add x1083 1))) (add x1082 1))) (add x1081 1))) (add x1080 1))) (add x1079 1))) (add x1078 1))) (add x1077 1))) (add x1076 1))) (add x1075 1))) (add x1074 1))) (add x1073 1))) (add x1072 1))) (add x1071 1))) (add x1070 1))) (add x1069 1))) (add x1068 1))) (add x1067 1))) (add x1066 1))) (add x1065 1))) (add x1064 1))) (add x1063 1))) (add x1062 1))) (add x1061 1))) (add x1060 1))) (add x1059 1))) (add x1058 1))) (add x1057 1))) (add x1056 1))) (add x1055 1))) (add x1054 1))) (add x1053 1))) (add x1052 1))) (add x1051 1))) (add x1050 1))) (add x1049 1))) (add x1048 1))) (add x1047 1))) (add x1046 1))) (add x1045 1))) (add x1044 1))) (add x1043 1))) (add x1042 1))) (add x1041 1))) (add x1040 1))) (add x1039 1))) (add x1038 1))) (add x1037 1))) (add x1036 1))) (add x1035 1))) (add x1034 1))) (add x1033 1))) (add x1032 1))) (add x1031 1))) (add x1030 1))) (add x1029 1))) (add x1028 1))) (add x1027 1))) (add x1026 1))) (add x1025 1))) (add x1024 1))) (add x1023 1))) (add x1022 1))) (add x1021 1))) (add x1020 1))) (add x1019 1))) (add x1018 1))) (add x1017 1))) (add x1016 1))) (add x1015 1))) (add x1014 1))) (add x1013 1))) (add x1012 1))) (add x1011 1))) (add x1010 1))) (add x1009 1))) (add x1008 1))) (add x1007 1))) (add x1006 1))) (add x1005 1))) (add x1004 1))) (add x1003 1))) (add x1002 1))) (add x1001 1))) (add x1000 1))) (add x999 1))) (add x998 1))) (add x997 1))) (add x996 1))) (add x995 1))) (add x994 1))) (add x993 1))) (add x992 1))) (add x991 1))) (add x990 1))) (add x989 1))) (add x988 1))) (add x987 1))) (add x986 1))) (add x985 1))) (add x984 1))) (add x983 1))) (add x982 1))) (add x981 1))) (add x980 1))) (add x979 1))) (add x978 1))) (add x977 1))) (add x976 1))) (add x975 1))) (add x974 1))) (add x973 1))) (add x972 1))) (add x971 1))) (add x970 1))) (add x969 1))) (add x968 1))) (add x967 1))) (add x966 1))) (add x965 1))) (add x964 1))) (add x963 1))) (add x962 1))) (add x961 1))) (add x960 1))) (add x959 1))) (add x958 1))) (add x957 1))) (add x956 1))) (add x955 1))) (add x954 1))) (add x953 1))) (add x952 1))) (add x951 1))) (add x950 1))) (add x949 1))) (add x948 1))) (add x947 1))) (add x946 1))) (add x945 1))) (add x944 1))) (add x943 1))) (add x942 1))) (add x941 1))) (add x940 1))) (add x939 1))) (add x938 1))) (add x937 1))) (add x936 1))) (add x935 1))) (add x934 1))) (add x933 1))) (add x932 1))) (add x931 1))) (add x930 1))) (add x929 1))) (add x928 1))) (add x927 1))) (add x926 1))) (add x925 1))) (add x924 1))) (add x923 1))) (add x922 1))) (add x921 1))) (add x920 1))) (add x919 1))) (add x918 1))) (add x917 1))) (add x916 1))) (add x915 1))) (add x914 1))) (add x913 1))) (add x912 1))) (add x911 1))) (add x910 1))) (add x909 1))) (add x908 1))) (add x907 1))) (add x906 1))) (add x905 1))) (add x904 1))) (add x903 1))) (add x902 1))) (add x901 1))) (add x900 1))) (add x899 1))) (add x898 1))) (add x897 1))) (add x896 1))) (add x895 1))) (add x894 1))) (add x893 1))) (add x892 1))) (add x891 1))) (add x890 1))) (add x889 1))) (add x888 1))) (add x887 1))) (add x886 1))) (add x885 1))) (add x884 1))) (add x883 1))) (add x882 1))) (add x881 1))) (add x880 1))) (add x879 1))) (add x878 1))) (add x877 1))) (add x876 1))) (add x875 1))) (add x874 1))) (add x873 1))) (add x872 1))) (add x871 1))) (add x870 1))) (add x869 1))) (add x868 1))) (add x867 1))) (add x866 1))) (add x865 1))) (add x864 1))) (add x863 1))) (add x862 1))) (add x861 1))) (add x860 1))) (add x859 1))) (add x858 1))) (add x857 1))) (add x856 1))) (add x855 1))) (add x854 1))) (add x853 1))) (add x852 1))) (add x851 1))) (add x850 1))) (add x849 1))) (add x848 1))) (add x847 1))) (add x846 1))) (add x845 1))) (add x844 1))) (add x843 1))) (add x842 1))) (add x841 1))) (add x840 1))) (add x839 1))) (add x838 1))) (add x837 1))) (add x836 1))) (add x835 1))) (add x834 1))) (add x833 1))) (add x832 1))) (add x831 1))) (add x830 1))) (add x829 1))) (add x828 1))) (add x827 1))) (add x826 1))) (add x825 1))) (add x824 1))) (add x823 1))) (add x822 1))) (add x821 1))) (add x820 1))) (add x819 1))) (add x818 1))) (add x817 1))) (add x816 1))) (add x815 1))) (add x814 1))) (add x813 1))) (add x812 1))) (add x811 1))) (add x810 1))) (add x809 1))) (add x808 1))) (add x807 1))) (add x806 1))) (add x805 1))) (add x804 1))) (add x803 1))) (add x802 1))) (add x801 1))) (add x800 1))) (add x799 1))) (add x798 1))) (add x797 1))) (add x796 1))) (add x795 1))) (add x794 1))) (add x793 1))) (add x792 1))) (add x791 1))) (add x790 1))) (add x789 1))) (add x788 1))) (add x787 1))) (add x786 1))) (add x785 1))) (add x784 1))) (add x783 1))) (add x782 1))) (add x781 1))) (add x780 1))) (add x779 1))) (add x778 1))) (add x777 1))) (add x776 1))) (add x775 1))) (add x774 1))) (add x773 1))) (add x772 1))) (add x771 1))) (add x770 1))) (add x769 1))) (add x768 1))) (add x767 1))) (add x766 1))) (add x765 1))) (add x764 1))) (add x763 1))) (add x762 1))) (add x761 1))) (add x760 1))) (add x759 1))) (add x758 1))) (add x757 1))) (add x756 1))) (add x755 1))) (add x754 1))) (add x753 1))) (add x752 1))) (add x751 1))) (add x750 1))) (add x749 1))) (add x748 1))) (add x747 1))) (add x746 1))) (add x745 1))) (add x744 1))) (add x743 1))) (add x742 1))) (add x741 1))) (add x740 1))) (add x739 1))) (add x738 1))) (add x737 1))) (add x736 1))) (add x735 1))) (add x734 1))) (add x733 1))) (add x732 1))) (add x731 1))) (add x730 1))) (add x729 1))) (add x728 1))) (add x727 1))) (add x726 1))) (add x725 1))) (add x724 1))) (add x723 1))) (add x722 1))) (add x721 1))) (add x720 1))) (add x719 1))) (add x718 1))) (add x717 1))) (add x716 1))) (add x715 1))) (add x714 1))) (add x713 1))) (add x712 1))) (add x711 1))) (add x710 1))) (add x709 1))) (add x708 1))) (add x707 1))) (add x706 1))) (add x705 1))) (add x704 1))) (add x703 1))) (add x702 1))) (add x701 1))) (add x700 1))) (add x699 1))) (add x698 1))) (add x697 1))) (add x696 1))) (add x695 1))) (add x694 1))) (add x693 1))) (add x692 1))) (add x691 1))) (add x690 1))) (add x689 1))) (add x688 1))) (add x687 1))) (add x686 1))) (add x685 1))) (add x684 1))) (add x683 1))) (add x682 1))) (add x681 1))) (add x680 1))) (add x679 1))) (add x678 1))) (add x677 1))) (add x676 1))) (add x675 1))) (add x674 1))) (add x673 1))) (add x672 1))) (add x671 1))) (add x670 1))) (add x669 1))) (add x668 1))) (add x667 1))) (add x666 1))) (add x665 1))) (add x664 1))) (add x663 1))) (add x662 1))) (add x661 1))) (add x660 1))) (add x659 1))) (add x658 1))) (add x657 1))) (add x656 1))) (add x655 1))) (add x654 1))) (add x653 1))) (add x652 1))) (add x651 1))) (add x650 1))) (add x649 1))) (add x648 1))) (add x647 1))) (add x646 1))) (add x645 1))) (add x644 1))) (add x643 1))) (add x642 1))) (add x641 1))) (add x640 1))) (add x639 1))) (add x638 1))) (add x637 1))) (add x636 1))) (add x635 1))) (add x634 1))) (add x633 1))) (add x632 1))) (add x631 1))) (add x630 1))) (add x629 1))) (add x628 1))) (add x627 1))) (add x626 1))) (add x625 1))) (add x624 1))) (add x623 1))) (add x622 1))) (add x621 1))) (add x620 1))) (add x619 1))) (add x618 1))) (add x617 1))) (add x616 1))) (add x615 1))) (add x614 1))) (add x613 1))) (add x612 1))) (add x611 1))) (add x610 1))) (add x609 1))) (add x608 1))) (add x607 1))) (add x606 1))) (add x605 1))) (add x604 1))) (add x603 1))) (add x602 1))) (add x601 1))) (add x600 1))) (add x599 1))) (add x598 1))) (add x597 1))) (add x596 1))) (add x595 1))) (add x594 1))) (add x593 1))) (add x592 1))) (add x591 1))) (add x590 1))) (add x589 1))) (add x588 1))) (add x587 1))) (add x586 1))) (add x585 1))) (add x584 1))) (add x583 1))) (add x582 1))) (add x581 1))) (add x580 1))) (add x579 1))) (add x578 1))) (add x577 1))) (add x576 1))) (add x575 1))) (add x574 1))) (add x573 1))) (add x572 1))) (add x571 1))) (add x570 1))) (add x569 1))) (add x568 1))) (add x567 1))) (add x566 1))) (add x565 1))) (add x564 1))) (add x563 1))) (add x562 1))) (add x561 1))) (add x560 1))) (add x559 1))) (add x558 1))) (add x557 1))) (add x556 1))) (add x555 1))) (add x554 1))) (add x553 1))) (add x552 1))) (add x551 1))) (add x550 1))) (add x549 1))) (add x548 1))) (add x547 1))) (add x546 1))) (add x545 1))) (add x544 1))) (add x543 1))) (add x542 1))) (add x541 1))) (add x540 1))) (add x539 1))) (add x538 1))) (add x537 1))) (add x536 1))) (add x535 1))) (add x534 1))) (add x533 1))) (add x532 1))) (add x531 1))) (add x530 1))) (add x529 1))) (add x528 1))) (add x527 1))) (add x526 1))) (add x525 1))) (add x524 1))) (add x523 1))) (add x522 1))) (add x521 1))) (add x520 1))) (add x519 1))) (add x518 1))) (add x517 1))) (add x516 1))) (add x515 1))) (add x514 1))) (add x513 1))) (add x512 1))) (add x511 1))) (add x510 1))) (add x509 1))) (add x508 1))) (add x507 1))) (add x506 1))) (add x505 1))) (add x504 1))) (add x503 1))) (add x502 1))) (add x501 1))) (add x500 1))) (add x499 1))) (add x498 1))) (add x497 1))) (add x496 1))) (add x495 1))) (add x494 1))) (add x493 1))) (add x492 1))) (add x491 1))) (add x490 1))) (add x489 1))) (add x488 1))) (add x487 1))) (add x486 1))) (add x485 1))) (add x484 1))) (add x483 1))) (add x482 1))) (add x481 1))) (add x480 1))) (add x479 1))) (add x478 1))) (add x477 1))) (add x476 1))) (add x475 1))) (add x474 1))) (add x473 1))) (add x472 1))) (add x471 1))) (add x470 1))) (add x469 1))) (add x468 1))) (add x467 1))) (add x466 1))) (add x465 1))) (add x464 1))) (add x463 1))) (add x462 1))) (add x461 1))) (add x460 1))) (add x459 1))) (add x458 1))) (add x457 1))) (add x456 1))) (add x455 1))) (add x454 1))) (add x453 1))) (add x452 1))) (add x451 1))) (add x450 1))) (add x449 1))) (add x448 1))) (add x447 1))) (add x446 1))) (add x445 1))) (add x444 1))) (add x443 1))) (add x442 1))) (add x441 1))) (add x440 1))) (add x439 1))) (add x438 1))) (add x437 1))) (add x436 1))) (add x435 1))) (add x434 1))) (add x433 1))) (add x432 1))) (add x431 1))) (add x430 1))) (add x429 1))) (add x428 1))) (add x427 1))) (add x426 1))) (add x425 1))) (add x424 1))) (add x423 1))) (add x422 1))) (add x421 1))) (add x420 1))) (add x419 1))) (add x418 1))) (add x417 1))) (add x416 1))) (add x415 1))) (add x414 1))) (add x413 1))) (add x412 1))) (add x411 1))) (add x410 1))) (add x409 1))) (add x408 1))) (add x407 1))) (add x406 1))) (add x405 1))) (add x404 1))) (add x403 1))) (add x402 1))) (add x401 1))) (add x400 1))) (add x399 1))) (add x398 1))) (add x397 1))) (add x396 1))) (add x395 1))) (add x394 1))) (add x393 1))) (add x392 1))) (add x391 1))) (add x390 1))) (add x389 1))) (add x388 1))) (add x387 1))) (add x386 1))) (add x385 1))) (add x384 1))) (add x383 1))) (add x382 1))) (add x381 1))) (add x380 1))) (add x379 1))) (add x378 1))) (add x377 1))) (add x376 1))) (add x375 1))) (add x374 1))) (add x373 1))) (add x372 1))) (add x371 1))) (add x370 1))) (add x369 1))) (add x368 1))) (add x367 1))) (add x366 1))) (add x365 1))) (add x364 1))) (add x363 1))) (add x362 1))) (add x361 1))) (add x360 1))) (add x359 1))) (add x358 1))) (add x357 1))) (add x356 1))) (add x355 1))) (add x354 1))) (add x353 1))) (add x352 1))) (add x351 1))) (add x350 1))) (add x349 1))) (add x348 1))) (add x347 1))) (add x346 1))) (add x345 1))) (add x344 1))) (add x343 1))) (add x342 1))) (add x341 1))) (add x340 1))) (add x339 1))) (add x338 1))) (add x337 1))) (add x336 1))) (add x335 1))) (add x334 1))) (add x333 1))) (add x332 1))) (add x331 1))) (add x330 1))) (add x329 1))) (add x328 1))) (add x327 1))) (add x326 1))) (add x325 1))) (add x324 1))) (add x323 1))) (add x322 1))) (add x321 1))) (add x320 1))) (add x319 1))) (add x318 1))) (add x317 1))) (add x316 1))) (add x315 1))) (add x314 1))) (add x313 1))) (add x312 1))) (add x311 1))) (add x310 1))) (add x309 1))) (add x308 1))) (add x307 1))) (add x306 1))) (add x305 1))) (add x304 1))) (add x303 1))) (add x302 1))) (add x301 1))) (add x300 1))) (add x299 1))) (add x298 1))) (add x297 1))) (add x296 1))) (add x295 1))) (add x294 1))) (add x293 1))) (add x292 1))) (add x291 1))) (add x290 1))) (add x289 1))) (add x288 1))) (add x287 1))) (add x286 1))) (add x285 1))) (add x284 1))) (add x283 1))) (add x282 1))) (add x281 1))) (add x280 1))) (add x279 1))) (add x278 1))) (add x277 1))) (add x276 1))) (add x275 1))) (add x274 1))) (add x273 1))) (add x272 1))) (add x271 1))) (add x270 1))) (add x269 1))) (add x268 1))) (add x267 1))) (add x266 1))) (add x265 1))) (add x264 1))) (add x263 1))) (add x262 1))) (add x261 1))) (add x260 1))) (add x259 1))) (add x258 1))) (add x257 1))) (add x256 1))) (add x255 1))) (add x254 1))) (add x253 1))) (add x252 1))) (add x251 1))) (add x250 1))) (add x249 1))) (add x248 1))) (add x247 1))) (add x246 1))) (add x245 1))) (add x244 1))) (add x243 1))) (add x242 1))) (add x241 1))) (add x240 1))) (add x239 1))) (add x238 1))) (add x237 1))) (add x236 1))) (add x235 1))) (add x234 1))) (add x233 1))) (add x232 1))) (add x231 1))) (add x230 1))) (add x229 1))) (add x228 1))) (add x227 1))) (add x226 1))) (add x225 1))) (add x224 1))) (add x223 1))) (add x222 1))) (add x221 1))) (add x220 1))) (add x219 1))) (add x218 1))) (add x217 1))) (add x216 1))) (add x215 1))) (add x214 1))) (add x213 1))) (add x212 1))) (add x211 1))) (add x210 1))) (add x209 1))) (add x208 1))) (add x207 1))) (add x206 1))) (add x205 1))) (add x204 1))) (add x203 1))) (add x202 1))) (add x201 1))) (add x200 1))) (add x199 1))) (add x198 1))) (add x197 1))) (add x196 1))) (add x195 1))) (add x194 1))) (add x193 1))) (add x192 1))) (add x191 1))) (add x190 1))) (add x189 1))) (add x188 1))) (add x187 1))) (add x186 1))) (add x185 1))) (add x184 1))) (add x183 1))) (add x182 1))) (add x181 1))) (add x180 1))) (add x179 1))) (add x178 1))) (add x177 1))) (add x176 1))) (add x175 1))) (add x174 1))) (add x173 1))) (add x172 1))) (add x171 1))) (add x170 1))) (add x169 1))) (add x168 1))) (add x167 1))) (add x166 1))) (add x165 1))) (add x164 1))) (add x163 1))) (add x162 1))) (add x161 1))) (add x160 1))) (add x159 1))) (add x158 1))) (add x157 1))) (add x156 1))) (add x155 1))) (add x154 1))) (add x153 1))) (add x152 1))) (add x151 1))) (add x150 1))) (add x149 1))) (add x148 1))) (add x147 1))) (add x146 1))) (add x145 1))) (add x144 1))) (add x143 1))) (add x142 1))) (add x141 1))) (add x140 1))) (add x139 1))) (add x138 1))) (add x137 1))) (add x136 1))) (add x135 1))) (add x134 1))) (add x133 1))) (add x132 1))) (add x131 1))) (add x130 1))) (add x129 1))) (add x128 1))) (add x127 1))) (add x126 1))) (add x125 1))) (add x124 1))) (add x123 1))) (add x122 1))) (add x121 1))) (add x120 1))) (add x119 1))) (add x118 1))) (add x117 1))) (add x116 1))) (add x115 1))) (add x114 1))) (add x113 1))) (add x112 1))) (add x111 1))) (add x110 1))) (add x109 1))) (add x108 1))) (add x107 1))) (add x106 1))) (add x105 1))) (add x104 1))) (add x103 1))) (add x102 1))) (add x101 1))) (add x100 1))) (add x99 1))) (add x98 1))) (add x97 1))) (add x96 1))) (add x95 1))) (add x94 1))) (add x93 1))) (add x92 1))) (add x91 1))) (add x90 1))) (add x89 1))) (add x88 1))) (add x87 1))) (add x86 1))) (add x85 1))) (add x84 1))) (add x83 1))) (add x82 1))) (add x81 1))) (add x80 1))) (add x79 1))) (add x78 1))) (add x77 1))) (add x76 1))) (add x75 1))) (add x74 1))) (add x73 1))) (add x72 1))) (add x71 1))) (add x70 1))) (add x69 1))) (add x68 1))) (add x67 1))) (add x66 1))) (add x65 1))) (add x64 1))) (add x63 1))) (add x62 1))) (add x61 1))) (add x60 1))) (add x59 1))) (add x58 1))) (add x57 1))) (add x56 1))) (add x55 1))) (add x54 1))) (add x53 1))) (add x52 1))) (add x51 1))) (add x50 1))) (add x49 1))) (add x48 1))) (add x47 1))) (add x46 1))) (add x45 1))) (add x44 1))) (add x43 1))) (add x42 1))) (add x41 1))) (add x40 1))) (add x39 1))) (add x38 1))) (add x37 1))) (add x36 1))) (add x35 1))) (add x34 1))) (add x33 1))) (add x32 1))) (add x31 1))) (add x30 1))) (add x29 1))) (add x28 1))) (add x27 1))) (add x26 1))) (add x25 1))) (add x24 1))) (add x23 1))) (add x22 1))) (add x21 1))) (add x20 1))) (add x19 1))) (add x18 1))) (add x17 1))) (add x16 1))) (add x15 1))) (add x14 1))) (add x13 1))) (add x12 1))) (add x11 1))) (add x10 1))) (add x9 1))) (add x8 1))) (add x7 1))) (add x6 1))) (add x5 1))) (add x4 1))) (add x3 1))) (add x2 1))) (add x1 1))) 0)
@@ -0,0 +1 @@
+((lambda (x) (if (zero? 0) 1 x)) (nosuch 1))
@@ -0,0 +1,2 @@
+(letrec* ((loop (lambda (n) (loop n))))
+  ((lambda (x y) (if (zero? 0) y x)) (loop 1) 7))
@@ -0,0 +1,2 @@
+(letrec* ((k 10) (h (lambda (n) (add n k))))
+  ((lambda (k) (h k)) 1))
@@ -0,0 +1 @@
+((lambda (x) 1) nosuch)
@@ -0,0 +1 @@
+(letrec* ((a (f 1)) (f (lambda (x) x))) a)
@@ -0,0 +1 @@
+(letrec* ((a ((lambda (x) 1) b)) (b 2)) a)
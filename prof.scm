@@ -0,0 +1,5 @@
+(letrec*
+  ((dec (lambda (n) (subtract n 1)))
+   (fib (lambda (n) (if (zero? n) 0 (if (zero? (dec n)) 1 (add (fib (dec n)) (fib (subtract n 2)))))))
+   (loop (lambda (i acc) (if (zero? i) acc (loop (dec i) (add acc (fib 10)))))))
+  (loop 2000 0))
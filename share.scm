@@ -0,0 +1,203 @@
+(letrec* (
+  (f0 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f1 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f2 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f3 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f4 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f5 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f6 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f7 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f8 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f9 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f10 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f11 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f12 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f13 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f14 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f15 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f16 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f17 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f18 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f19 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f20 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f21 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f22 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f23 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f24 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f25 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f26 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f27 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f28 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f29 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f30 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f31 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f32 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f33 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f34 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f35 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f36 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f37 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f38 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f39 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f40 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f41 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f42 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f43 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f44 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f45 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f46 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f47 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f48 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f49 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f50 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f51 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f52 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f53 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f54 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f55 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f56 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f57 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f58 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f59 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f60 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f61 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f62 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f63 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f64 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f65 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f66 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f67 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f68 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f69 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f70 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f71 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f72 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f73 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f74 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f75 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f76 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f77 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f78 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f79 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f80 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f81 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f82 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f83 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f84 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f85 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f86 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f87 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f88 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f89 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f90 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f91 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f92 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f93 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f94 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f95 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f96 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f97 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f98 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f99 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f100 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f101 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f102 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f103 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f104 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f105 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f106 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f107 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f108 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f109 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f110 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f111 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f112 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f113 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f114 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f115 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f116 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f117 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f118 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f119 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f120 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f121 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f122 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f123 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f124 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f125 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f126 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f127 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f128 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f129 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f130 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f131 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f132 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f133 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f134 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f135 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f136 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f137 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f138 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f139 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f140 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f141 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f142 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f143 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f144 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f145 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f146 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f147 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f148 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f149 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f150 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f151 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f152 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f153 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f154 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f155 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f156 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f157 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f158 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f159 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f160 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f161 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f162 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f163 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f164 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f165 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f166 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f167 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f168 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f169 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f170 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f171 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f172 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f173 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f174 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f175 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f176 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f177 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f178 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f179 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f180 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f181 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f182 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f183 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f184 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f185 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f186 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f187 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f188 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f189 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f190 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f191 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f192 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f193 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f194 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f195 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f196 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f197 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f198 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+  (f199 (lambda (n) (add (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))) (add (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))))) (add (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))) (add (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2))) (add (add (subtract n 1) (add n 2)) (add (subtract n 1) (add n 2)))))))))
+)
+(f199 (f198 (f197 (f196 (f195 (f194 (f193 (f192 (f191 (f190 (f189 (f188 (f187 (f186 (f185 (f184 (f183 (f182 (f181 (f180 (f179 (f178 (f177 (f176 (f175 (f174 (f173 (f172 (f171 (f170 (f169 (f168 (f167 (f166 (f165 (f164 (f163 (f162 (f161 (f160 (f159 (f158 (f157 (f156 (f155 (f154 (f153 (f152 (f151 (f150 (f149 (f148 (f147 (f146 (f145 (f144 (f143 (f142 (f141 (f140 (f139 (f138 (f137 (f136 (f135 (f134 (f133 (f132 (f131 (f130 (f129 (f128 (f127 (f126 (f125 (f124 (f123 (f122 (f121 (f120 (f119 (f118 (f117 (f116 (f115 (f114 (f113 (f112 (f111 (f110 (f109 (f108 (f107 (f106 (f105 (f104 (f103 (f102 (f101 (f100 (f99 (f98 (f97 (f96 (f95 (f94 (f93 (f92 (f91 (f90 (f89 (f88 (f87 (f86 (f85 (f84 (f83 (f82 (f81 (f80 (f79 (f78 (f77 (f76 (f75 (f74 (f73 (f72 (f71 (f70 (f69 (f68 (f67 (f66 (f65 (f64 (f63 (f62 (f61 (f60 (f59 (f58 (f57 (f56 (f55 (f54 (f53 (f52 (f51 (f50 (f49 (f48 (f47 (f46 (f45 (f44 (f43 (f42 (f41 (f40 (f39 (f38 (f37 (f36 (f35 (f34 (f33 (f32 (f31 (f30 (f29 (f28 (f27 (f26 (f25 (f24 (f23 (f22 (f21 (f20 (f19 (f18 (f17 (f16 (f15 (f14 (f13 (f12 (f11 (f10 (f9 (f8 (f7 (f6 (f5 (f4 (f3 (f2 (f1 (f0 1)))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
\ No newline at end of file
@@ -2,17 +2,27 @@ package io.github.kustosz.ponzi;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 
 public final class App {
 
   public static void main(String[] args) throws IOException {
-    var ast = Parser.parse(Path.of("test2.scm"));
+    var ast = Optimizer.optimize(Parser.parse(Path.of("test2.scm")));
     System.out.println(ast);
 
     var compiled = Continuations.Converter.compile(ast);
     System.out.println(compiled);
     System.out.println("cps: " + Continuations.Interpreter.interpret(compiled));
     System.out.println("naive: " + NaiveInterpreter.interpret(ast));
+    System.out.println("tiered: " + TieredInterpreter.interpret(ast));
+
+    var profile = System.getProperty("ponzi.profile");
+    if (profile != null) {
+      try (var profiler = new Profiler(Duration.ofMillis(1))) {
+        Continuations.Interpreter.interpret(compiled, profiler);
+        profiler.writeCollapsed(Path.of(profile));
+      }
+    }
 
   }
 }
@@ -10,7 +10,7 @@ sealed public interface Ast {
   record Ident(String name) implements Ast {
   }
 
-  record Lambda(List<String> formals, List<Ast> statements, Ast returnExpr) implements Ast {
+  record Lambda(List<String> formals, List<Ast> statements, Ast returnExpr, Location location) implements Ast {
   }
 
   record Conditional(Ast test, Ast ifTrue, Option<Ast> ifFalse) implements Ast {
@@ -21,4 +21,11 @@ sealed public interface Ast {
 
   record BindingSpec(String identifier, Ast expr) {
   }
+
+  record Location(String source, int line, int column) {
+    @Override
+    public String toString() {
+      return source + ":" + line + ":" + column;
+    }
+  }
 }
@@ -52,7 +52,7 @@ public class Continuations {
       }
     }
 
-    record BindingSpec(String name, List<String> formals, CExp definition) {
+    record BindingSpec(String name, List<String> formals, CExp definition, Option<Ast.Location> location) {
       @Override
       public String toString() {
         var arglist = formals.stream().collect(Collectors.joining(" ", "(", ")"));
@@ -63,6 +63,16 @@ public class Continuations {
   }
 
   static class Converter {
+    // Thrown for programs the converter cannot handle yet, as opposed to bugs in the converter.
+    static class Unsupported extends RuntimeException {
+      private static final long serialVersionUID = 1L;
+
+      Unsupported(String message) {
+        super(message);
+      }
+    }
+
+    private final Interner interner = new Interner();
     private int lastVar = 0;
 
     private String genVar() {
@@ -77,16 +87,18 @@ public class Continuations {
       return new Converter().convert(ast, x -> new CExp.App(new CValue.Var("$$HALT"), List.of(x)));
     }
 
+    static CExp.BindingSpec compileLambda(Ast.Lambda lambda) {
+      var converter = new Converter();
+      return converter.convertLambda(converter.genVar(), lambda);
+    }
+
     CExp convert(Ast ast, Function<CValue, CExp> cont) {
       return switch (ast) {
-        case Ast.Number n -> cont.apply(new CValue.Number(n.value()));
-        case Ast.Ident i -> cont.apply(new CValue.Var(i.name()));
+        case Ast.Number n -> cont.apply(interner.value(new CValue.Number(n.value())));
+        case Ast.Ident i -> cont.apply(interner.value(new CValue.Var(i.name())));
         case Ast.Lambda l -> {
           var f = genVar();
-          var k = genCont();
-          var body = convert(l.returnExpr(),
-              z -> new CExp.App(new CValue.Var(k), List.of(z))); //todo BODY
-          var binding = new CExp.BindingSpec(f, l.formals().append(k), body);
+          var binding = convertLambda(f, l);
           yield new CExp.LetRec(List.of(binding), cont.apply(new CValue.Var(f)));
         }
         case Ast.Call c -> {
@@ -95,25 +107,26 @@ public class Continuations {
           var app = convert(c.function(),
               f -> convertMany(c.arguments(),
                   args -> new CExp.App(f, args.append(new CValue.Var(r)))));
-          var binding = new CExp.BindingSpec(r, List.of(x), cont.apply(new CValue.Var(x)));
+          var binding = new CExp.BindingSpec(r, List.of(x), cont.apply(new CValue.Var(x)), new Option.None<>());
           yield new CExp.LetRec(List.of(binding), app);
         }
 
         case Ast.LetRec lr -> {
           var newBindings = lr.bindings().map(this::convertBinding);
-          yield new CExp.LetRec(newBindings, convert(lr.returnExpr(), cont)); // todo BODY
+          yield new CExp.LetRec(newBindings, convertBody(lr.statements(), lr.returnExpr(), cont));
         }
 
         case Ast.Conditional c -> {
           var k = genCont();
           var x = genVar();
           var ifT = convert(c.ifTrue(), v -> new CExp.App(new CValue.Var(k), List.of(v)));
-          var ifF = c.ifFalse()
-              .map(iff -> convert(iff, v -> new CExp.App(new CValue.Var(k), List.of(v))))
-              .get(); // TODO
+          if (c.ifFalse() instanceof Option.None) {
+            throw new Unsupported("Can't do an if without an else (yet?)");
+          }
+          var ifF = convert(c.ifFalse().get(), v -> new CExp.App(new CValue.Var(k), List.of(v)));
           var body = convert(c.test(), v -> {
             var cond = new CExp.If(v, ifT, ifF);
-            var bindSpec = new CExp.BindingSpec(k, List.of(x), cont.apply(new CValue.Var(x)));
+            var bindSpec = new CExp.BindingSpec(k, List.of(x), cont.apply(new CValue.Var(x)), new Option.None<>());
             return new CExp.LetRec(List.of(bindSpec), cond);
           });
           yield body;
@@ -123,15 +136,31 @@ public class Continuations {
 
     CExp.BindingSpec convertBinding(Ast.BindingSpec binding) {
       if (binding.expr() instanceof Ast.Lambda l) {
-        var w = genCont();
-        var body = convert(l.returnExpr(),
-            z -> new CExp.App(new CValue.Var(w), List.of(z))); // todo BODY
-        return new CExp.BindingSpec(binding.identifier(), l.formals().append(w), body);
+        return convertLambda(binding.identifier(), l);
       } else {
-        throw new RuntimeException("Can't do this (yet?)");
+        throw new Unsupported("Can't do this (yet?)");
       }
     }
 
+    CExp.BindingSpec convertLambda(String name, Ast.Lambda l) {
+      var k = genCont();
+      var body = convertBody(l.statements(), l.returnExpr(),
+          z -> new CExp.App(new CValue.Var(k), List.of(z)));
+      return new CExp.BindingSpec(name, l.formals().append(k), body, Option.of(l.location()));
+    }
+
+    // Statements run in order for their effects; only the value of `returnExpr` is passed on.
+    CExp convertBody(List<Ast> statements, Ast returnExpr, Function<CValue, CExp> cont) {
+      return switch (statements) {
+        case List.Empty<Ast> e -> convert(returnExpr, cont);
+        case List.Cons<Ast> cons -> convert(cons.head(), v -> {
+          var rest = convertBody(cons.tail(), returnExpr, cont);
+          // Branching on a variable looks it up, so an unbound one fails as it does when interpreted.
+          return cons.head() instanceof Ast.Ident ? new CExp.If(v, rest, rest) : rest;
+        });
+      };
+    }
+
     CExp convertMany(List<Ast> exprs, Function<List<CValue>, CExp> cont) {
       return switch (exprs) {
         case List.Empty e -> cont.apply(List.empty());
@@ -167,21 +196,38 @@ public class Continuations {
         case CExp.LetRec l -> {
           var childScope = scope.makeChild();
           l.bindings.forEach(spec -> childScope.declare(spec.name,
-              new Func(spec.name, spec.formals, spec.definition, childScope)));
+              new Func(spec.name, spec.formals, spec.definition, spec.location, childScope)));
           yield interpretUntilCont(l.cont, childScope);
         }
       };
     }
 
     static Value interpret(CExp expr) {
+      return interpret(expr, null);
+    }
+
+    static Value interpret(CExp expr, Profiler profiler) {
       var scope = Env.global();
-      Result lastResult = interpretUntilCont(expr, scope);
+      return run(interpretUntilCont(expr, scope), profiler);
+    }
+
+    static Value run(Result result) {
+      return run(result, null);
+    }
+
+    static Value run(Result result, Profiler profiler) {
+      Result lastResult = result;
       while (lastResult instanceof NextCall nc) {
+        if (profiler != null) {
+          profiler.step(nc.fn(), nc.arguments());
+        }
         lastResult = nc.fn().call(nc.arguments());
       }
       return ((Final) lastResult).result;
     }
 
+    static final Callable HALT = arguments -> new Final(arguments.get(0));
+
     interface Value {
     }
 
@@ -190,11 +236,13 @@ public class Continuations {
       Result call(List<Value> arguments);
     }
 
-    record Func(String name, List<String> formals, CExp body, Env scope) implements Callable {
+    record Func(String name, List<String> formals, CExp body, Option<Ast.Location> location, Env scope)
+        implements Callable {
       @Override
       public Result call(List<Value> arguments) {
         if (formals.size() != arguments.size()) {
-          throw new RuntimeException("Wrong arity when calling " + name);
+          throw new RuntimeException("Wrong arity when calling " + name
+              + location.stream().map(l -> " at " + l).findFirst().orElse(""));
         }
         var frame = scope.makeChild();
         formals.zip(arguments).forEach(p -> frame.declare(p.fst(), p.snd()));
@@ -220,9 +268,9 @@ public class Continuations {
     record NextCall(Callable fn, List<Value> arguments) implements Result {
     }
 
-    record Env(HashMap<String, Value> vars, Env parent) {
+    record Env(HashMap<String, Value> vars, Env parent, Function<String, Value> outer) {
       public static Env global() {
-        var ret = new Env(new HashMap<>(), null);
+        var ret = new Env(new HashMap<>(), null, null);
         ret.declareBuiltin("zero?",
             arguments -> new NextCall((Callable) arguments.get(1),
                 List.of(new Boolean(arguments.get(0).equals(new Number(0))))));
@@ -243,16 +291,28 @@ public class Continuations {
             arguments -> new NextCall((Callable) arguments.get(2),
                 List.of(new Number(((Number) arguments.get(0)).value() - ((Number) arguments.get(1)).value()))));
 
-        ret.declareBuiltin("$$HALT", arguments -> new Final(arguments.get(0)));
+        ret.declareBuiltin("$$HALT", HALT);
 
         return ret;
       }
 
+      // A root that resolves missing variables through `outer`. Each value found there is kept, so
+      // `outer` is asked at most once per variable.
+      public static Env over(Function<String, Value> outer) {
+        return new Env(new HashMap<>(), null, outer);
+      }
+
       private Value lookupNoThrow(String variable) {
         if (vars.containsKey(variable)) {
           return vars.get(variable);
         } else if (parent != null) {
           return parent.lookupNoThrow(variable);
+        } else if (outer != null) {
+          var value = outer.apply(variable);
+          if (value != null) {
+            vars.put(variable, value);
+          }
+          return value;
         } else {
           return null;
         }
@@ -269,7 +329,7 @@ public class Continuations {
       }
 
       public Env makeChild() {
-        return new Env(new HashMap<>(), this);
+        return new Env(new HashMap<>(), this, null);
       }
 
       public Env declare(String variable, Value val) {
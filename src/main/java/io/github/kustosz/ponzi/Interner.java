@@ -0,0 +1,170 @@
+package io.github.kustosz.ponzi;
+
+import java.util.HashMap;
+
+// Hash-conses Ast nodes so that structurally identical subtrees are a single object, and shares
+// CPS leaves. Composite CPS nodes are not consed: each binds a freshly generated name, so none of
+// them are ever identical.
+//
+// Nodes are interned bottom-up: by the time a node is interned its children already are, so a
+// lookup compares children by identity and never walks the subtree. The table is open-addressed
+// and holds the nodes themselves, so sharing costs a slot and a cached hash per distinct node.
+//
+// A Lambda's location is part of its key, so lambdas written out at two places in the source are
+// never one node, however alike; only the subtrees below them are shared. A shared lambda could
+// carry only one of the locations, and arity errors and profiles name the place a lambda is from.
+public class Interner {
+  private final HashMap<String, String> symbols = new HashMap<>();
+  // Leaves are shallow records, so their own equals and hashCode are already cheap.
+  private final HashMap<Object, Object> leaves = new HashMap<>();
+  private Object[] table = new Object[1 << 10];
+  private int[] hashes = new int[1 << 10];
+  private int size = 0;
+
+  private final Object[] probe = new Object[4];
+  private final Object[] found = new Object[4];
+
+  private static int components(Object node, Object[] out) {
+    return switch (node) {
+      case Ast.Call c -> fill(out, c.function(), c.arguments());
+      case Ast.Lambda l -> fill(out, l.formals(), l.statements(), l.returnExpr(), l.location());
+      case Ast.Conditional c -> fill(out, c.test(), c.ifTrue(), c.ifFalse());
+      case Ast.LetRec lr -> fill(out, lr.bindings(), lr.statements(), lr.returnExpr());
+      case Ast.BindingSpec b -> fill(out, b.identifier(), b.expr());
+      case List.Cons<?> c -> fill(out, c.head(), c.tail());
+      case Option.Some<?> s -> fill(out, s.value());
+      case default -> 0;
+    };
+  }
+
+  private static int fill(Object[] out, Object... parts) {
+    System.arraycopy(parts, 0, out, 0, parts.length);
+    return parts.length;
+  }
+
+  private <T> T share(T node) {
+    var count = components(node, probe);
+    var h = node.getClass().hashCode();
+    for (int i = 0; i < count; i++) {
+      h = 31 * h + System.identityHashCode(probe[i]);
+    }
+    h ^= h >>> 16;
+    var mask = table.length - 1;
+    var slot = h & mask;
+    for (var existing = table[slot]; existing != null; existing = table[slot]) {
+      if (hashes[slot] == h && existing.getClass() == node.getClass() && matches(existing, count)) {
+        // Of the same class, so of the same type as `node`.
+        @SuppressWarnings("unchecked")
+        var same = (T) existing;
+        return same;
+      }
+      slot = (slot + 1) & mask;
+    }
+    table[slot] = node;
+    hashes[slot] = h;
+    if (++size * 2 > table.length) {
+      grow();
+    }
+    return node;
+  }
+
+  private boolean matches(Object existing, int count) {
+    components(existing, found);
+    for (int i = 0; i < count; i++) {
+      if (probe[i] != found[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void grow() {
+    var oldTable = table;
+    var oldHashes = hashes;
+    table = new Object[oldTable.length * 2];
+    hashes = new int[oldTable.length * 2];
+    var mask = table.length - 1;
+    for (int i = 0; i < oldTable.length; i++) {
+      if (oldTable[i] != null) {
+        var slot = oldHashes[i] & mask;
+        while (table[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        table[slot] = oldTable[i];
+        hashes[slot] = oldHashes[i];
+      }
+    }
+  }
+
+  // `leaves` maps every node to itself.
+  @SuppressWarnings("unchecked")
+  private <T> T leaf(T node) {
+    var existing = leaves.putIfAbsent(node, node);
+    return existing == null ? node : (T) existing;
+  }
+
+  String symbol(String name) {
+    var existing = symbols.putIfAbsent(name, name);
+    return existing == null ? name : existing;
+  }
+
+  <T> List<T> list(List<T> list) {
+    return switch (list) {
+      case List.Empty<T> e -> List.empty();
+      case List.Cons<T> c -> {
+        var tail = list(c.tail());
+        yield share(new List.Cons<>(c.head(), tail));
+      }
+    };
+  }
+
+  <T> Option<T> option(Option<T> option) {
+    return switch (option) {
+      case Option.None<T> n -> leaf(n);
+      case Option.Some<T> s -> share(s);
+    };
+  }
+
+  Ast.Location location(Ast.Location location) {
+    var source = symbol(location.source());
+    return leaf(new Ast.Location(source, location.line(), location.column()));
+  }
+
+  // Expects the children of `ast` to be interned already.
+  Ast ast(Ast ast) {
+    return switch (ast) {
+      case Ast.Number n -> leaf(n);
+      case Ast.Ident i -> leaf(new Ast.Ident(symbol(i.name())));
+      case Ast.Call c -> {
+        var arguments = list(c.arguments());
+        yield share(new Ast.Call(c.function(), arguments));
+      }
+      case Ast.Lambda l -> {
+        var formals = list(l.formals().map(this::symbol));
+        var statements = list(l.statements());
+        var location = location(l.location());
+        yield share(new Ast.Lambda(formals, statements, l.returnExpr(), location));
+      }
+      case Ast.Conditional c -> {
+        var ifFalse = option(c.ifFalse());
+        yield share(new Ast.Conditional(c.test(), c.ifTrue(), ifFalse));
+      }
+      case Ast.LetRec lr -> {
+        var bindings = list(lr.bindings().map(this::binding));
+        var statements = list(lr.statements());
+        yield share(new Ast.LetRec(bindings, statements, lr.returnExpr()));
+      }
+    };
+  }
+
+  Ast.BindingSpec binding(Ast.BindingSpec binding) {
+    var identifier = symbol(binding.identifier());
+    return share(new Ast.BindingSpec(identifier, binding.expr()));
+  }
+
+  // Only leaves that come from the source are worth sharing; names generated by the converter are
+  // unique and referenced once or twice, so interning them would cost more than it saves.
+  Continuations.CValue value(Continuations.CValue value) {
+    return leaf(value);
+  }
+}
@@ -0,0 +1,171 @@
+package io.github.kustosz.ponzi;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Reproduces the figures quoted for the Interner, the Optimizer and the tiers:
+//   heap <program>          retained heap of the Ast with and without sharing, and of its CPS
+//   time <program> [runs] [repeat]
+//                           time the Optimizer takes and the distinct nodes it leaves, then best time
+//                           of each tier over `runs` of `repeat` evaluations each, with and without it
+// e.g. java --enable-preview -Xss64m -Xms4g -Xmx4g -cp target/classes:antlr4-runtime-4.9.3.jar \
+//        io.github.kustosz.ponzi.Measure heap letrec2000.scm
+//      ... io.github.kustosz.ponzi.Measure time tree-sum.scm
+// Heap figures are only comparable under a fixed heap size.
+public final class Measure {
+
+  public static void main(String[] args) throws IOException {
+    var ast = Parser.parse(Path.of(args[1]));
+    switch (args[0]) {
+      case "heap" -> heap(ast);
+      case "time" -> time(ast, args.length > 2 ? Integer.parseInt(args[2]) : 5,
+          args.length > 3 ? Integer.parseInt(args[3]) : 1);
+      case default -> throw new RuntimeException("Expected heap or time but got " + args[0]);
+    }
+  }
+
+  private static Object kept;
+
+  private static long used() {
+    for (int i = 0; i < 5; i++) {
+      System.gc();
+    }
+    var runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  private static long retainedKb(Supplier<Object> build) {
+    var before = used();
+    kept = build.get();
+    var retained = used() - before;
+    kept = null;
+    return retained / 1024;
+  }
+
+  private static long bestMs(int runs, Runnable run) {
+    return bestMs(runs, 1, run);
+  }
+
+  private static long bestMs(int runs, int repeat, Runnable run) {
+    var best = Long.MAX_VALUE;
+    for (int i = 0; i < runs; i++) {
+      var start = System.nanoTime();
+      for (int j = 0; j < repeat; j++) {
+        run.run();
+      }
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    return best / 1_000_000;
+  }
+
+  static void heap(Ast shared) {
+    var tree = copy(shared);
+    System.out.printf("ast nodes: %d in the tree, %d distinct%n", count(tree), count(shared));
+    System.out.printf("ast heap: %d KB unshared, %d KB interned%n",
+        retainedKb(() -> copy(shared)), retainedKb(() -> copy(shared, new Interner())));
+    System.out.printf("cps heap: %d KB from the unshared Ast, %d KB from the interned one%n",
+        retainedKb(() -> Continuations.Converter.compile(tree)),
+        retainedKb(() -> Continuations.Converter.compile(shared)));
+    System.out.printf("convert: %d ms from the unshared Ast, %d ms from the interned one%n",
+        bestMs(5, () -> Continuations.Converter.compile(tree)),
+        bestMs(5, () -> Continuations.Converter.compile(shared)));
+  }
+
+  // A node-for-node copy with fresh strings, as the Parser built the Ast before it interned it.
+  static Ast copy(Ast ast) {
+    return switch (ast) {
+      case Ast.Number n -> new Ast.Number(n.value());
+      case Ast.Ident i -> new Ast.Ident(new String(i.name()));
+      case Ast.Call c -> new Ast.Call(copy(c.function()), c.arguments().map(Measure::copy));
+      case Ast.Lambda l -> new Ast.Lambda(l.formals().map(String::new), l.statements().map(Measure::copy),
+          copy(l.returnExpr()),
+          new Ast.Location(new String(l.location().source()), l.location().line(), l.location().column()));
+      case Ast.Conditional c -> new Ast.Conditional(copy(c.test()), copy(c.ifTrue()), c.ifFalse().map(Measure::copy));
+      case Ast.LetRec lr -> new Ast.LetRec(
+          lr.bindings().map(b -> new Ast.BindingSpec(new String(b.identifier()), copy(b.expr()))),
+          lr.statements().map(Measure::copy), copy(lr.returnExpr()));
+    };
+  }
+
+  // Interns a fresh copy bottom-up, as the Parser does.
+  static Ast copy(Ast ast, Interner interner) {
+    return interner.ast(switch (ast) {
+      case Ast.Number n -> new Ast.Number(n.value());
+      case Ast.Ident i -> new Ast.Ident(new String(i.name()));
+      case Ast.Call c -> new Ast.Call(copy(c.function(), interner), c.arguments().map(a -> copy(a, interner)));
+      case Ast.Lambda l -> new Ast.Lambda(l.formals().map(String::new),
+          l.statements().map(s -> copy(s, interner)), copy(l.returnExpr(), interner),
+          new Ast.Location(new String(l.location().source()), l.location().line(), l.location().column()));
+      case Ast.Conditional c -> new Ast.Conditional(copy(c.test(), interner), copy(c.ifTrue(), interner),
+          c.ifFalse().map(f -> copy(f, interner)));
+      case Ast.LetRec lr -> new Ast.LetRec(
+          lr.bindings().map(b -> new Ast.BindingSpec(new String(b.identifier()), copy(b.expr(), interner))),
+          lr.statements().map(s -> copy(s, interner)), copy(lr.returnExpr(), interner));
+    });
+  }
+
+  static int count(Ast ast) {
+    return count(ast, Collections.newSetFromMap(new IdentityHashMap<>()));
+  }
+
+  private static int count(Ast ast, Set<Ast> seen) {
+    if (!seen.add(ast)) {
+      return 0;
+    }
+    return 1 + switch (ast) {
+      case Ast.Number n -> 0;
+      case Ast.Ident i -> 0;
+      case Ast.Call c -> count(c.function(), seen) + c.arguments().stream().mapToInt(a -> count(a, seen)).sum();
+      case Ast.Lambda l -> l.statements().stream().mapToInt(s -> count(s, seen)).sum() + count(l.returnExpr(), seen);
+      case Ast.Conditional c -> count(c.test(), seen) + count(c.ifTrue(), seen)
+          + c.ifFalse().stream().mapToInt(f -> count(f, seen)).sum();
+      case Ast.LetRec lr -> lr.bindings().stream().mapToInt(b -> count(b.expr(), seen)).sum()
+          + lr.statements().stream().mapToInt(s -> count(s, seen)).sum() + count(lr.returnExpr(), seen);
+    };
+  }
+
+  static void time(Ast plain, int runs, int repeat) {
+    var optimized = Optimizer.optimize(plain);
+    System.out.printf("optimize: %d ms, %d distinct nodes, %d after%n", bestMs(runs, () -> Optimizer.optimize(plain)),
+        count(plain), count(optimized));
+    report("naive", runs, repeat,
+        () -> NaiveInterpreter.interpret(plain), () -> NaiveInterpreter.interpret(optimized));
+    report("cps", runs, repeat,
+        () -> Continuations.Interpreter.interpret(Continuations.Converter.compile(plain)),
+        () -> Continuations.Interpreter.interpret(Continuations.Converter.compile(optimized)));
+    report("tiered", runs, repeat,
+        () -> TieredInterpreter.interpret(plain), () -> TieredInterpreter.interpret(optimized));
+  }
+
+  private static void report(String tier, int runs, int repeat, Supplier<Object> plain,
+                             Supplier<Object> optimized) {
+    var plainResult = outcome(plain);
+    var optimizedResult = outcome(optimized);
+    if (!plainResult.equals(optimizedResult)) {
+      System.out.printf("%-7s %s, optimized %s: DIFFERENT%n", tier, plainResult, optimizedResult);
+      return;
+    }
+    if (plainResult.startsWith("error") || plainResult.startsWith("stack")) {
+      System.out.printf("%-7s %s, optimized the same%n", tier, plainResult);
+      return;
+    }
+    var plainMs = bestMs(runs, repeat, plain::get);
+    var optimizedMs = bestMs(runs, repeat, optimized::get);
+    System.out.printf("%-7s %s: %d ms, optimized %d ms, %.2fx%n", tier, plainResult, plainMs, optimizedMs,
+        (double) plainMs / Math.max(optimizedMs, 1));
+  }
+
+  private static String outcome(Supplier<Object> run) {
+    try {
+      return String.valueOf(run.get());
+    } catch (StackOverflowError e) {
+      return "stack overflow";
+    } catch (RuntimeException e) {
+      return "error: " + e.getMessage();
+    }
+  }
+}
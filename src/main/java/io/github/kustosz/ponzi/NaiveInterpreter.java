@@ -24,6 +24,11 @@ public class NaiveInterpreter {
   record NoValue() implements Value {
   }
 
+  @FunctionalInterface
+  interface Caller {
+    Value call(Func func, List<Value> arguments);
+  }
+
   record Env(HashMap<String, Value> vars, Env parent) {
     public static Env global() {
       var ret = new Env(new HashMap<>(), null);
@@ -44,7 +49,7 @@ public class NaiveInterpreter {
       return ret;
     }
 
-    private Value lookupNoThrow(String variable) {
+    Value lookupNoThrow(String variable) {
       if (vars.containsKey(variable)) {
         return vars.get(variable);
       } else if (parent != null) {
@@ -83,6 +88,16 @@ public class NaiveInterpreter {
     return interpret(ast, Env.global());
   }
 
+  public static Value interpret(Ast ast, Profiler profiler) {
+    profiler.nameBindings(ast);
+    return interpret(ast, Env.global(), profiler::call);
+  }
+
+  // Out of line, so that formatting the message does not grow the interpreter's compiled frames.
+  static RuntimeException wrongArity(Ast.Lambda lambda) {
+    return new RuntimeException("Wrong arity for a lambda call at %s.".formatted(lambda.location()));
+  }
+
   public static Value interpret(Ast ast, Env env) {
     return switch (ast) {
       case Ast.Number n -> new Number(n.value());
@@ -115,7 +130,7 @@ public class NaiveInterpreter {
           case Func f -> {
             var newEnv = f.scope().makeChild();
             if (c.arguments().size() != f.ast().formals().size()) {
-              throw new RuntimeException("Wrong arity for a lambda call.");
+              throw wrongArity(f.ast());
             }
             IntStream.range(0, c.arguments().size())
                 .forEach(i -> newEnv.declare(f.ast().formals().get(i),
@@ -130,4 +145,53 @@ public class NaiveInterpreter {
     };
   }
 
+  // These mirror `interpret` above but send every lambda call through `caller`. They are kept apart because
+  // threading the extra argument through the plain interpreter costs it about a tenth of its recursion depth.
+  static Value apply(Func func, List<Value> arguments, Caller caller) {
+    if (arguments.size() != func.ast().formals().size()) {
+      throw wrongArity(func.ast());
+    }
+    var newEnv = func.scope().makeChild();
+    func.ast().formals().zip(arguments).forEach(p -> newEnv.declare(p.fst(), p.snd()));
+    func.ast().statements().forEach(stmt -> interpret(stmt, newEnv, caller));
+    return interpret(func.ast().returnExpr(), newEnv, caller);
+  }
+
+  static Value interpret(Ast ast, Env env, Caller caller) {
+    return switch (ast) {
+      case Ast.Number n -> new Number(n.value());
+      case Ast.Ident i -> env.lookup(i.name());
+      case Ast.Lambda l -> new Func(l, env);
+      case Ast.Conditional c -> {
+        var test = interpret(c.test(), env, caller);
+        if (test.equals(new Boolean(false))) {
+          if (c.ifFalse() instanceof Option.Some<Ast> s) {
+            yield interpret(s.value(), env, caller);
+          } else {
+            yield new NoValue();
+          }
+        } else {
+          yield (interpret(c.ifTrue(), env, caller));
+        }
+      }
+
+      case Ast.LetRec block -> {
+        var newEnv = env.makeChild();
+        block.bindings()
+            .forEach(bind -> newEnv.declare(bind.identifier(), interpret(bind.expr(), newEnv, caller)));
+        block.statements().forEach(bind -> interpret(bind, newEnv, caller));
+        yield interpret(block.returnExpr(), newEnv, caller);
+      }
+
+      case Ast.Call c -> {
+        var func = interpret(c.function(), env, caller);
+        yield switch (func) {
+          case Func f -> caller.call(f, c.arguments().map(arg -> interpret(arg, env, caller)));
+          case BuiltinFunc f -> f.call(c.arguments().map(arg -> interpret(arg, env, caller)));
+          case default -> throw new RuntimeException("Expected a function but got " + func);
+        };
+      }
+    };
+  }
+
 }
@@ -0,0 +1,650 @@
+package io.github.kustosz.ponzi;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Function;
+
+// Inlines known lambdas over the Ast, ahead of both NaiveInterpreter and Continuations.Converter.
+// Directly applied lambdas are beta-reduced, and calls to small non-recursive letrec* helpers are
+// replaced by their bodies. Neither may change what gets evaluated: an argument that could fail or
+// diverge is only substituted where the body would evaluate it first anyway, otherwise the call is
+// left alone. A lambda argument is only copied to calls of it, each of which must then reduce in turn.
+// Every copy is charged against a budget proportional to the program, which also bounds unrolling of
+// self-application such as `(fact-gen fact-gen)`.
+//
+// Free variables and sizes are computed once per node. A directly applied lambda is reduced before its
+// body is optimized, by binding the formals to the optimized arguments, so nested reductions walk the
+// body once. Calls that only reduce once their function is optimized, e.g. of an inlined helper, are
+// reduced by substituting into the optimized body: that rebuilds just the path to each use and looks
+// further only at the calls that received an argument, but a chain of n such reductions, each inside
+// the previous one's result, still rebuilds O(n^2) nodes.
+//
+// Nodes whose children come back unchanged are returned as they are, so the sharing set up by the
+// Interner survives the pass.
+public class Optimizer {
+  static final int INLINE_SIZE = 24;
+
+  // Looking these up never fails, unless a program shadows them.
+  private static final Set<String> BUILTINS = NaiveInterpreter.Env.global().vars().keySet();
+
+  // One per binder, so that a name can be checked to resolve to the same binding in two scopes.
+  private static final class Binding {
+    private Ast.Lambda known = null;
+    private Set<String> free = null;
+    private Scope scope = null;
+    // What a reduced call bound the name to, to be used in its place. The binding itself is then gone.
+    private Ast value = null;
+    // letrec* binds in order, so a binding cannot be looked up before its definition has run.
+    private boolean initialized;
+
+    private Binding(boolean initialized) {
+      this.initialized = initialized;
+    }
+  }
+
+  // Lookups are remembered by every scope they pass through, so deep nesting stays cheap to look
+  // through.
+  private record Scope(HashMap<String, Binding> names, Scope parent, HashMap<String, Binding> resolved) {
+    private Scope(HashMap<String, Binding> names, Scope parent) {
+      this(names, parent, new HashMap<>());
+    }
+  }
+
+  // The free sets are shared between nodes, so must not be modified.
+  private record Info(Set<String> free, int size) {
+  }
+
+  private final IdentityHashMap<Ast, Info> infos = new IdentityHashMap<>();
+
+  // Inlining may at most triple the size of the program.
+  private int budget;
+
+  private Optimizer(Ast ast) {
+    this.budget = 2 * info(ast).size();
+  }
+
+  public static Ast optimize(Ast ast) {
+    return new Optimizer(ast).optimize(ast, null);
+  }
+
+  private static Binding lookup(Scope scope, String name) {
+    var passed = new ArrayList<Scope>();
+    Binding binding = null;
+    for (var current = scope; current != null; current = current.parent()) {
+      if (current.resolved().containsKey(name)) {
+        binding = current.resolved().get(name);
+        break;
+      }
+      binding = current.names().get(name);
+      if (binding != null) {
+        break;
+      }
+      passed.add(current);
+    }
+    for (var current : passed) {
+      current.resolved().put(name, binding);
+    }
+    return binding;
+  }
+
+  // Looks through the bindings of reduced calls, as nothing refers to them once they are optimized.
+  private static Binding resolve(Scope scope, String name) {
+    var binding = lookup(scope, name);
+    while (binding != null && binding.value != null) {
+      binding = lookup(binding.scope, name);
+    }
+    return binding;
+  }
+
+  // Whether looking `name` up in `scope` is sure to succeed.
+  private static boolean isBound(String name, Scope scope) {
+    var binding = lookup(scope, name);
+    return binding == null ? BUILTINS.contains(name) : binding.initialized;
+  }
+
+  // Whether evaluating `ast` in `scope` can neither fail nor diverge.
+  private static boolean isValue(Ast ast, Scope scope) {
+    return switch (ast) {
+      case Ast.Number n -> true;
+      case Ast.Lambda l -> true;
+      case Ast.Ident i -> isBound(i.name(), scope);
+      case default -> false;
+    };
+  }
+
+  // Maps `list`, returning `list` itself when every element maps to itself.
+  private static <T> List<T> mapOrSame(List<T> list, Function<T, T> fn) {
+    var mapped = list.map(fn);
+    return mapped.zip(list).stream().allMatch(p -> p.fst() == p.snd()) ? list : mapped;
+  }
+
+  // As mapOrSame, but returns null as soon as `fn` does.
+  private static <T> List<T> mapOrNull(List<T> list, Function<T, T> fn) {
+    var mapped = new ArrayList<T>();
+    var same = true;
+    for (var element : list.stream().toList()) {
+      var result = fn.apply(element);
+      if (result == null) {
+        return null;
+      }
+      mapped.add(result);
+      same &= result == element;
+    }
+    return same ? list : List.of(mapped);
+  }
+
+  private Ast optimize(Ast ast, Scope scope) {
+    return switch (ast) {
+      case Ast.Number n -> n;
+      case Ast.Ident i -> {
+        var binding = lookup(scope, i.name());
+        yield binding != null && binding.value != null ? binding.value : i;
+      }
+      case Ast.Lambda l -> {
+        var names = new HashMap<String, Binding>();
+        l.formals().forEach(formal -> names.put(formal, new Binding(true)));
+        var inner = new Scope(names, scope);
+        var statements = mapOrSame(l.statements(), stmt -> optimize(stmt, inner));
+        var returnExpr = optimize(l.returnExpr(), inner);
+        yield statements == l.statements() && returnExpr == l.returnExpr()
+            ? l
+            : new Ast.Lambda(l.formals(), statements, returnExpr, l.location());
+      }
+      case Ast.Conditional c -> {
+        var test = optimize(c.test(), scope);
+        var ifTrue = optimize(c.ifTrue(), scope);
+        var ifFalse = c.ifFalse().map(f -> optimize(f, scope));
+        var sameIfFalse = c.ifFalse() instanceof Option.None || ifFalse.get() == c.ifFalse().get();
+        yield test == c.test() && ifTrue == c.ifTrue() && sameIfFalse
+            ? c
+            : new Ast.Conditional(test, ifTrue, sameIfFalse ? c.ifFalse() : ifFalse);
+      }
+      case Ast.LetRec lr -> optimizeLetRec(lr, scope);
+      case Ast.Call c -> optimizeCall(c, scope);
+    };
+  }
+
+  private Ast optimizeLetRec(Ast.LetRec lr, Scope scope) {
+    var bindings = lr.bindings().stream().toList();
+    var names = new HashMap<String, Binding>();
+    var positions = new HashMap<String, Integer>();
+    var binders = new ArrayList<Binding>();
+    for (int i = 0; i < bindings.size(); i++) {
+      var binding = new Binding(false);
+      binders.add(binding);
+      names.put(bindings.get(i).identifier(), binding);
+      positions.put(bindings.get(i).identifier(), i);
+    }
+    var group = new Scope(names, scope);
+    var optimized = new ArrayList<Ast.BindingSpec>();
+    for (int i = 0; i < bindings.size(); i++) {
+      var spec = bindings.get(i);
+      var binding = binders.get(i);
+      binding.scope = group;
+      var expr = optimize(spec.expr(), group);
+      optimized.add(expr == spec.expr() ? spec : new Ast.BindingSpec(spec.identifier(), expr));
+      binding.initialized = true;
+      if (expr instanceof Ast.Lambda l) {
+        var free = info(l).free();
+        var index = i;
+        // One that refers to itself or to a later binding may recurse, so is never inlined.
+        if (free.stream().noneMatch(name -> positions.getOrDefault(name, -1) >= index)) {
+          binding.known = l;
+          binding.free = free;
+        }
+      }
+    }
+    var statements = mapOrSame(lr.statements(), stmt -> optimize(stmt, group));
+    var returnExpr = optimize(lr.returnExpr(), group);
+    var live = withoutDeadBindings(optimized, statements, returnExpr);
+    if (live.isEmpty() && statements instanceof List.Empty) {
+      return returnExpr;
+    }
+    var sameBindings = live.size() == bindings.size();
+    for (int i = 0; sameBindings && i < live.size(); i++) {
+      sameBindings = live.get(i) == bindings.get(i);
+    }
+    return sameBindings && statements == lr.statements() && returnExpr == lr.returnExpr()
+        ? lr
+        : new Ast.LetRec(sameBindings ? lr.bindings() : List.of(live), statements, returnExpr);
+  }
+
+  // Drops lambda bindings that nothing but themselves refers to any more, e.g. helpers inlined at
+  // every call. Other bindings are kept, as evaluating them may fail or diverge.
+  private ArrayList<Ast.BindingSpec> withoutDeadBindings(ArrayList<Ast.BindingSpec> bindings,
+                                                         List<Ast> statements, Ast returnExpr) {
+    var body = new HashSet<>(info(returnExpr).free());
+    statements.forEach(stmt -> body.addAll(info(stmt).free()));
+    var positions = new HashMap<String, Integer>();
+    for (int i = 0; i < bindings.size(); i++) {
+      if (positions.put(bindings.get(i).identifier(), i) != null) {
+        return bindings;
+      }
+    }
+    // How many other bindings refer to each name.
+    var references = new HashMap<String, Integer>();
+    var free = new ArrayList<Set<String>>();
+    for (var spec : bindings) {
+      var names = new HashSet<>(info(spec.expr()).free());
+      names.remove(spec.identifier());
+      names.forEach(name -> references.merge(name, 1, Integer::sum));
+      free.add(names);
+    }
+    var dead = new boolean[bindings.size()];
+    var pending = new ArrayDeque<Integer>(positions.values());
+    while (!pending.isEmpty()) {
+      int i = pending.poll();
+      var spec = bindings.get(i);
+      if (dead[i] || !(spec.expr() instanceof Ast.Lambda) || body.contains(spec.identifier())
+          || references.getOrDefault(spec.identifier(), 0) > 0) {
+        continue;
+      }
+      dead[i] = true;
+      for (var name : free.get(i)) {
+        references.merge(name, -1, Integer::sum);
+        var position = positions.get(name);
+        if (position != null) {
+          pending.add(position);
+        }
+      }
+    }
+    var live = new ArrayList<Ast.BindingSpec>();
+    for (int i = 0; i < bindings.size(); i++) {
+      if (!dead[i]) {
+        live.add(bindings.get(i));
+      }
+    }
+    return live;
+  }
+
+  private Ast optimizeCall(Ast.Call c, Scope scope) {
+    var arguments = mapOrSame(c.arguments(), arg -> optimize(arg, scope));
+    if (c.function() instanceof Ast.Lambda l) {
+      var bound = bindArguments(l, arguments, scope);
+      if (bound != null) {
+        return bound;
+      }
+    }
+    var function = optimize(c.function(), scope);
+    var reduced = reduce(function, arguments, scope);
+    if (reduced != null) {
+      return reduced;
+    }
+    return function == c.function() && arguments == c.arguments() ? c : new Ast.Call(function, arguments);
+  }
+
+  // Inlines or beta-reduces a call whose function and arguments are optimized already, so that the
+  // result is too. Returns null when the call has to stay.
+  private Ast reduce(Ast function, List<Ast> arguments, Scope scope) {
+    return switch (function) {
+      case Ast.Ident i -> inlineKnown(lookup(scope, i.name()), arguments, scope);
+      case Ast.Lambda l -> beta(l, arguments, scope);
+      case default -> null;
+    };
+  }
+
+  private Ast inlineKnown(Binding binding, List<Ast> arguments, Scope scope) {
+    // A call before the definition has run must still fail to find it.
+    if (binding == null || binding.known == null || !binding.initialized) {
+      return null;
+    }
+    var size = info(binding.known).size();
+    if (size > INLINE_SIZE || size > budget || !resolvesAlike(binding, scope)) {
+      return null;
+    }
+    // Charged up front, as reducing the copy may inline further copies, e.g. of itself.
+    budget -= size;
+    var reduced = beta(binding.known, arguments, scope);
+    if (reduced == null) {
+      budget += size;
+    }
+    return reduced;
+  }
+
+  // Whether moving the known lambda of `binding` to `site` keeps its free variables bound the same.
+  private static boolean resolvesAlike(Binding binding, Scope site) {
+    return binding.free.stream().allMatch(name -> resolve(binding.scope, name) == resolve(site, name));
+  }
+
+  // Reduces a directly applied lambda before its body is optimized, by binding the formals to the
+  // arguments in the scope the body is then optimized in, so that the body is walked once. Returns
+  // null when the body as written does not show that to be safe, or when an argument would be copied;
+  // beta may then still reduce the call once the body is optimized.
+  private Ast bindArguments(Ast.Lambda lambda, List<Ast> arguments, Scope scope) {
+    var reducing = new HashSet<String>();
+    var substitution = substitution(lambda, arguments, scope, reducing);
+    if (substitution == null || !reducing.isEmpty() || captures(lambda.returnExpr(), substitution)) {
+      return null;
+    }
+    var names = new HashMap<String, Binding>();
+    lambda.formals().zip(arguments).forEach(pair -> {
+      var binding = new Binding(true);
+      binding.value = pair.snd();
+      binding.scope = scope;
+      names.put(pair.fst(), binding);
+    });
+    return optimize(lambda.returnExpr(), new Scope(names, scope));
+  }
+
+  // Returns the body of `lambda` with `arguments` substituted for its formals, or null when that
+  // could change what is evaluated or in which order, capture a variable, or exceed the budget.
+  private Ast beta(Ast.Lambda lambda, List<Ast> arguments, Scope scope) {
+    var reducing = new HashSet<String>();
+    var substitution = substitution(lambda, arguments, scope, reducing);
+    if (substitution == null) {
+      return null;
+    }
+    var body = lambda.returnExpr();
+    var cost = reducing.stream()
+        .mapToInt(formal -> (uses(body, formal, false) - 1) * info(substitution.get(formal)).size())
+        .sum();
+    if (cost > budget) {
+      return null;
+    }
+    var before = budget;
+    budget -= cost;
+    var result = substitute(body, substitution, reducing, scope);
+    if (result == null) {
+      budget = before;
+    }
+    return result;
+  }
+
+  // What to substitute for the formals of `lambda` to reduce its call, or null when that could change
+  // what is evaluated or in which order. Formals whose lambda argument would be copied, so that every
+  // call of them has to reduce, are added to `reducing`.
+  private HashMap<String, Ast> substitution(Ast.Lambda lambda, List<Ast> arguments, Scope scope,
+                                            Set<String> reducing) {
+    if (!(lambda.statements() instanceof List.Empty) || lambda.formals().size() != arguments.size()) {
+      return null;
+    }
+    var body = lambda.returnExpr();
+    var substitution = new HashMap<String, Ast>();
+    // Formals whose arguments have to be evaluated exactly once, in this order.
+    var strict = new ArrayList<String>();
+    for (var pair : lambda.formals().zip(arguments).stream().toList()) {
+      var uses = uses(body, pair.fst(), false);
+      if (pair.snd() instanceof Ast.Lambda) {
+        if (uses > 1) {
+          if (uses(body, pair.fst(), true) != uses) {
+            return null;
+          }
+          reducing.add(pair.fst());
+        }
+      } else if (!isValue(pair.snd(), scope)) {
+        if (uses != 1) {
+          return null;
+        }
+        strict.add(pair.fst());
+      }
+      if (uses > 0) {
+        substitution.put(pair.fst(), pair.snd());
+      }
+    }
+    if (!strict.isEmpty()) {
+      var reached = new ArrayList<String>();
+      leading(body, lambda, new HashSet<>(strict), scope, reached);
+      if (!reached.equals(strict)) {
+        return null;
+      }
+    }
+    return substitution;
+  }
+
+  // Collects, in evaluation order, the uses of `strict` formals of `lambda` that evaluating `ast`
+  // reaches before anything that could fail or diverge. Returns whether evaluation gets past `ast`.
+  private boolean leading(Ast ast, Ast.Lambda lambda, Set<String> strict, Scope scope,
+                          ArrayList<String> reached) {
+    return switch (ast) {
+      case Ast.Number n -> true;
+      case Ast.Lambda l -> true;
+      case Ast.Ident i -> {
+        if (strict.contains(i.name())) {
+          reached.add(i.name());
+          yield true;
+        }
+        yield lambda.formals().stream().anyMatch(i.name()::equals) || isBound(i.name(), scope);
+      }
+      case Ast.Call c -> {
+        if (mentions(c, strict) && leading(c.function(), lambda, strict, scope, reached)) {
+          for (var arg : c.arguments().stream().toList()) {
+            if (!leading(arg, lambda, strict, scope, reached)) {
+              break;
+            }
+          }
+        }
+        yield false;
+      }
+      case Ast.Conditional c -> {
+        if (mentions(c, strict)) {
+          leading(c.test(), lambda, strict, scope, reached);
+        }
+        yield false;
+      }
+      case Ast.LetRec lr -> false;
+    };
+  }
+
+  private boolean mentions(Ast ast, Set<String> names) {
+    var free = info(ast).free();
+    return names.stream().anyMatch(free::contains);
+  }
+
+  private static HashMap<String, Ast> without(HashMap<String, Ast> substitution, List<String> names) {
+    if (names.stream().noneMatch(substitution::containsKey)) {
+      return substitution;
+    }
+    var result = new HashMap<>(substitution);
+    names.forEach(result::remove);
+    return result;
+  }
+
+  // Whether substituting in `ast`, which binds `names`, would capture a free variable of a value.
+  private boolean captures(Ast ast, List<String> names, HashMap<String, Ast> substitution) {
+    var free = info(ast).free();
+    return substitution.entrySet().stream().anyMatch(entry -> free.contains(entry.getKey())
+        && names.stream().anyMatch(info(entry.getValue()).free()::contains));
+  }
+
+  // Whether substituting anywhere in `ast` would capture a free variable of a value.
+  private boolean captures(Ast ast, HashMap<String, Ast> substitution) {
+    if (!mentions(ast, substitution.keySet())) {
+      return false;
+    }
+    return switch (ast) {
+      case Ast.Number n -> false;
+      case Ast.Ident i -> false;
+      case Ast.Lambda l -> {
+        var inner = without(substitution, l.formals());
+        yield captures(l, l.formals(), substitution)
+            || l.statements().stream().anyMatch(stmt -> captures(stmt, inner))
+            || captures(l.returnExpr(), inner);
+      }
+      case Ast.Conditional c -> captures(c.test(), substitution) || captures(c.ifTrue(), substitution)
+          || c.ifFalse().stream().anyMatch(ifFalse -> captures(ifFalse, substitution));
+      case Ast.LetRec lr -> {
+        var identifiers = lr.bindings().map(Ast.BindingSpec::identifier);
+        var inner = without(substitution, identifiers);
+        yield captures(lr, identifiers, substitution)
+            || lr.bindings().stream().anyMatch(spec -> captures(spec.expr(), inner))
+            || lr.statements().stream().anyMatch(stmt -> captures(stmt, inner))
+            || captures(lr.returnExpr(), inner);
+      }
+      case Ast.Call c -> captures(c.function(), substitution)
+          || c.arguments().stream().anyMatch(arg -> captures(arg, substitution));
+    };
+  }
+
+  // Substitutes in `ast`, found in `scope`, and reduces the calls of substituted names. Returns null
+  // when a variable would be captured, or a call of a name in `reducing` does not reduce.
+  private Ast substitute(Ast ast, HashMap<String, Ast> substitution, Set<String> reducing, Scope scope) {
+    if (!mentions(ast, substitution.keySet())) {
+      return ast;
+    }
+    return switch (ast) {
+      case Ast.Number n -> n;
+      case Ast.Ident i -> substitution.get(i.name());
+      case Ast.Lambda l -> {
+        if (captures(l, l.formals(), substitution)) {
+          yield null;
+        }
+        var inner = without(substitution, l.formals());
+        var names = new HashMap<String, Binding>();
+        l.formals().forEach(formal -> names.put(formal, new Binding(true)));
+        var innerScope = new Scope(names, scope);
+        var statements = mapOrNull(l.statements(), stmt -> substitute(stmt, inner, reducing, innerScope));
+        var returnExpr = substitute(l.returnExpr(), inner, reducing, innerScope);
+        if (statements == null || returnExpr == null) {
+          yield null;
+        }
+        yield statements == l.statements() && returnExpr == l.returnExpr()
+            ? l
+            : new Ast.Lambda(l.formals(), statements, returnExpr, l.location());
+      }
+      case Ast.Conditional c -> {
+        var test = substitute(c.test(), substitution, reducing, scope);
+        var ifTrue = substitute(c.ifTrue(), substitution, reducing, scope);
+        var ifFalse = c.ifFalse() instanceof Option.Some<Ast> s
+            ? substitute(s.value(), substitution, reducing, scope)
+            : null;
+        if (test == null || ifTrue == null || (c.ifFalse() instanceof Option.Some && ifFalse == null)) {
+          yield null;
+        }
+        var sameIfFalse = c.ifFalse() instanceof Option.None || ifFalse == c.ifFalse().get();
+        yield test == c.test() && ifTrue == c.ifTrue() && sameIfFalse
+            ? c
+            : new Ast.Conditional(test, ifTrue, sameIfFalse ? c.ifFalse() : Option.of(ifFalse));
+      }
+      case Ast.LetRec lr -> {
+        var identifiers = lr.bindings().map(Ast.BindingSpec::identifier);
+        if (captures(lr, identifiers, substitution)) {
+          yield null;
+        }
+        var inner = without(substitution, identifiers);
+        var names = new HashMap<String, Binding>();
+        identifiers.forEach(identifier -> names.put(identifier, new Binding(false)));
+        var innerScope = new Scope(names, scope);
+        var bindings = mapOrNull(lr.bindings(), spec -> {
+          var expr = substitute(spec.expr(), inner, reducing, innerScope);
+          names.get(spec.identifier()).initialized = true;
+          return expr == null ? null : expr == spec.expr() ? spec : new Ast.BindingSpec(spec.identifier(), expr);
+        });
+        var statements = bindings == null
+            ? null
+            : mapOrNull(lr.statements(), stmt -> substitute(stmt, inner, reducing, innerScope));
+        var returnExpr = statements == null ? null : substitute(lr.returnExpr(), inner, reducing, innerScope);
+        if (returnExpr == null) {
+          yield null;
+        }
+        yield bindings == lr.bindings() && statements == lr.statements() && returnExpr == lr.returnExpr()
+            ? lr
+            : new Ast.LetRec(bindings, statements, returnExpr);
+      }
+      case Ast.Call c -> {
+        var function = substitute(c.function(), substitution, reducing, scope);
+        var arguments = mapOrNull(c.arguments(), arg -> substitute(arg, substitution, reducing, scope));
+        if (function == null || arguments == null) {
+          yield null;
+        }
+        // What was substituted may make this call reducible, and a copied lambda has to be reduced.
+        var reduced = reduce(function, arguments, scope);
+        if (reduced != null) {
+          yield reduced;
+        }
+        if (c.function() instanceof Ast.Ident i && reducing.contains(i.name())) {
+          yield null;
+        }
+        yield function == c.function() && arguments == c.arguments() ? c : new Ast.Call(function, arguments);
+      }
+    };
+  }
+
+  // How often `name` occurs free in `ast`, or with `called`, how often it is called.
+  private int uses(Ast ast, String name, boolean called) {
+    if (!info(ast).free().contains(name)) {
+      return 0;
+    }
+    return switch (ast) {
+      case Ast.Number n -> 0;
+      case Ast.Ident i -> called ? 0 : 1;
+      case Ast.Lambda l -> l.statements().stream().mapToInt(stmt -> uses(stmt, name, called)).sum()
+          + uses(l.returnExpr(), name, called);
+      case Ast.Conditional c -> uses(c.test(), name, called) + uses(c.ifTrue(), name, called)
+          + c.ifFalse().stream().mapToInt(ifFalse -> uses(ifFalse, name, called)).sum();
+      case Ast.LetRec lr -> lr.bindings().stream().mapToInt(spec -> uses(spec.expr(), name, called)).sum()
+          + lr.statements().stream().mapToInt(stmt -> uses(stmt, name, called)).sum()
+          + uses(lr.returnExpr(), name, called);
+      case Ast.Call c -> (called && c.function() instanceof Ast.Ident i && i.name().equals(name)
+          ? 1
+          : uses(c.function(), name, called))
+          + c.arguments().stream().mapToInt(arg -> uses(arg, name, called)).sum();
+    };
+  }
+
+  // Computed bottom-up, once per node.
+  private Info info(Ast ast) {
+    var info = infos.get(ast);
+    if (info != null) {
+      return info;
+    }
+    var children = new ArrayList<Ast>();
+    List<String> bound = List.empty();
+    switch (ast) {
+      case Ast.Number n -> {
+      }
+      case Ast.Ident i -> {
+      }
+      case Ast.Lambda l -> {
+        l.statements().forEach(children::add);
+        children.add(l.returnExpr());
+        bound = l.formals();
+      }
+      case Ast.Conditional c -> {
+        children.add(c.test());
+        children.add(c.ifTrue());
+        c.ifFalse().stream().forEach(children::add);
+      }
+      case Ast.LetRec lr -> {
+        lr.bindings().forEach(spec -> children.add(spec.expr()));
+        lr.statements().forEach(children::add);
+        children.add(lr.returnExpr());
+        bound = lr.bindings().map(Ast.BindingSpec::identifier);
+      }
+      case Ast.Call c -> {
+        children.add(c.function());
+        c.arguments().forEach(children::add);
+      }
+    }
+    var size = 1;
+    // The largest free set of the children is reused as it is when it covers the others.
+    Set<String> free = ast instanceof Ast.Ident i ? Set.of(i.name()) : Set.of();
+    for (var child : children) {
+      var childInfo = info(child);
+      size += childInfo.size();
+      if (childInfo.free().size() > free.size()) {
+        free = childInfo.free();
+      }
+    }
+    HashSet<String> copy = null;
+    for (var child : children) {
+      var childFree = info(child).free();
+      if (childFree != free && !(copy == null ? free : copy).containsAll(childFree)) {
+        copy = copy == null ? new HashSet<>(free) : copy;
+        copy.addAll(childFree);
+      }
+    }
+    for (var name : bound.stream().toList()) {
+      if ((copy == null ? free : copy).contains(name)) {
+        copy = copy == null ? new HashSet<>(free) : copy;
+        copy.remove(name);
+      }
+    }
+    info = new Info(copy == null ? free : copy, size);
+    infos.put(ast, info);
+    return info;
+  }
+}
@@ -5,6 +5,7 @@ import io.github.kustosz.ponzi.parser.PonziLexer;
 import io.github.kustosz.ponzi.parser.PonziParser;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTree;
 
 import java.io.IOException;
@@ -12,20 +13,32 @@ import java.nio.file.Path;
 
 public class Parser {
   private static class Visitor extends PonziBaseVisitor<Ast> {
+    private final String source;
+    private final Interner interner = new Interner();
+
+    Visitor(String source) {
+      this.source = source;
+    }
+
+    private Ast.Location location(ParserRuleContext ctx) {
+      var start = ctx.getStart();
+      return new Ast.Location(source, start.getLine(), start.getCharPositionInLine() + 1);
+    }
+
     @Override
     public Ast visitProcedureCall(PonziParser.ProcedureCallContext ctx) {
       var exprs = ctx.expression().stream().map(this::visit).toList();
-      return new Ast.Call(exprs.get(0), List.of(exprs.stream().skip(1).toList()));
+      return interner.ast(new Ast.Call(exprs.get(0), List.of(exprs.stream().skip(1).toList())));
     }
 
     @Override
     public Ast visitIdentifier(PonziParser.IdentifierContext ctx) {
-      return new Ast.Ident(ctx.Identifier().getText());
+      return interner.ast(new Ast.Ident(ctx.Identifier().getText()));
     }
 
     @Override
     public Ast visitNum_10(PonziParser.Num_10Context ctx) {
-      return new Ast.Number(Integer.valueOf(ctx.Number_10().getText(), 10));
+      return interner.ast(new Ast.Number(Integer.valueOf(ctx.Number_10().getText(), 10)));
     }
 
     @Override
@@ -34,7 +47,7 @@ public class Parser {
       var stmts = List.of(body.stream().limit(body.size() - 1).toList());
       var retVal = body.get(body.size() - 1);
       var formals = List.of(ctx.formals().Identifier().stream().map(ParseTree::getText).toList());
-      return new Ast.Lambda(formals, stmts, retVal);
+      return interner.ast(new Ast.Lambda(formals, stmts, retVal, location(ctx)));
     }
 
     @Override
@@ -42,7 +55,7 @@ public class Parser {
       var test = visit(ctx.test);
       var ifTrue = visit(ctx.ifTrue);
       var ifFalse = Option.of(ctx.ifFalse).map(this::visit);
-      return new Ast.Conditional(test, ifTrue, ifFalse);
+      return interner.ast(new Ast.Conditional(test, ifTrue, ifFalse));
     }
 
     @Override
@@ -54,7 +67,7 @@ public class Parser {
       var body = ctx.body().expression().stream().map(this::visit).toList();
       var stmts = List.of(body.stream().limit(body.size() - 1).toList());
       var retVal = body.get(body.size() - 1);
-      return new Ast.LetRec(bindings, stmts, retVal);
+      return interner.ast(new Ast.LetRec(bindings, stmts, retVal));
     }
   }
 
@@ -64,7 +77,7 @@ public class Parser {
     var tokenStream = new CommonTokenStream(lexer);
     var parser = new PonziParser(tokenStream);
     var tree = parser.init();
-    var ast = new Visitor().visit(tree);
+    var ast = new Visitor(path.getFileName().toString()).visit(tree);
     return ast;
   }
 }
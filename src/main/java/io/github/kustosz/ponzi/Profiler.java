@@ -0,0 +1,194 @@
+package io.github.kustosz.ponzi;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Samples the logical Scheme call stack of a single interpreter thread. A background thread only
+// raises a flag; the stack itself is read by the interpreter on its next call, so no locking is
+// needed and the cost when no sample is due is one volatile read.
+public class Profiler implements AutoCloseable {
+  static final String ROOT = "[toplevel]";
+
+  // Consecutive frames of the same function, so deep recursion costs one entry per sample. Labels
+  // are only formatted when a sample is taken.
+  static final class Run {
+    final String name;
+    final Ast.Location location;
+    int depth = 1;
+
+    Run(String name, Ast.Location location) {
+      this.name = name;
+      this.location = location;
+    }
+
+    boolean isOf(String name, Ast.Location location) {
+      return Objects.equals(this.name, name) && this.location.equals(location);
+    }
+
+    String label() {
+      return Profiler.label(name, location);
+    }
+  }
+
+  // For every frame, the continuation it returns through; null for interpreted frames.
+  private final ArrayList<Continuations.Interpreter.Callable> returns = new ArrayList<>();
+  private final ArrayList<Run> runs = new ArrayList<>();
+  private final HashMap<String, Long> samples = new HashMap<>();
+  // Interpreted closures carry no name, so each lambda is named after the letrec binding it is
+  // created under, as the CPS tier names it.
+  private final IdentityHashMap<Ast.Lambda, String> names = new IdentityHashMap<>();
+  private final Thread sampler;
+  private volatile boolean sampleRequested = false;
+
+  public Profiler(Duration interval) {
+    sampler = new Thread(() -> {
+      while (true) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(interval.toNanos());
+        } catch (InterruptedException e) {
+          return;
+        }
+        sampleRequested = true;
+      }
+    }, "ponzi-profiler");
+    sampler.setDaemon(true);
+    sampler.start();
+  }
+
+  static String label(String name, Ast.Location location) {
+    var shown = name == null || name.startsWith("$$") ? "lambda" : name;
+    return "%s (%s)".formatted(shown, location);
+  }
+
+  private void push(String name, Ast.Location location, Continuations.Interpreter.Callable returnTo) {
+    returns.add(returnTo);
+    if (!runs.isEmpty() && runs.get(runs.size() - 1).isOf(name, location)) {
+      runs.get(runs.size() - 1).depth++;
+    } else {
+      runs.add(new Run(name, location));
+    }
+  }
+
+  // Records the letrec binding of every lambda bound directly by one in `ast`. A lambda shared by
+  // several bindings keeps the first name.
+  void nameBindings(Ast ast) {
+    switch (ast) {
+      case Ast.Number n -> {
+      }
+      case Ast.Ident i -> {
+      }
+      case Ast.Lambda l -> {
+        l.statements().forEach(this::nameBindings);
+        nameBindings(l.returnExpr());
+      }
+      case Ast.Conditional c -> {
+        nameBindings(c.test());
+        nameBindings(c.ifTrue());
+        c.ifFalse().stream().forEach(this::nameBindings);
+      }
+      case Ast.LetRec lr -> {
+        lr.bindings().forEach(bind -> {
+          if (bind.expr() instanceof Ast.Lambda l) {
+            names.putIfAbsent(l, bind.identifier());
+          }
+          nameBindings(bind.expr());
+        });
+        lr.statements().forEach(this::nameBindings);
+        nameBindings(lr.returnExpr());
+      }
+      case Ast.Call c -> {
+        nameBindings(c.function());
+        c.arguments().forEach(this::nameBindings);
+      }
+    }
+  }
+
+  private void pop() {
+    returns.remove(returns.size() - 1);
+    var top = runs.get(runs.size() - 1);
+    if (--top.depth == 0) {
+      runs.remove(runs.size() - 1);
+    }
+  }
+
+  private boolean returnsTo(Continuations.Interpreter.Callable k) {
+    return !returns.isEmpty() && returns.get(returns.size() - 1) == k;
+  }
+
+  // The converter gives every call a continuation of its own. In tail position that continuation
+  // only passes its argument on to the caller's, `(r (x) (k x))`, so the call is a tail call if
+  // `k` is what the frame on top returns through.
+  private boolean isTailCall(Continuations.Interpreter.Callable r) {
+    return !returns.isEmpty()
+        && r instanceof Continuations.Interpreter.Func f
+        && f.location() instanceof Option.None
+        && f.formals().size() == 1
+        && f.body() instanceof Continuations.CExp.App app
+        && app.function() instanceof Continuations.CValue.Var k
+        && app.arguments().size() == 1
+        && app.arguments().get(0) instanceof Continuations.CValue.Var x
+        && x.name().equals(f.formals().get(0))
+        && returnsTo((Continuations.Interpreter.Callable) f.scope().lookup(k.name()));
+  }
+
+  // Called by the CPS trampoline before every step. A call to a source lambda pushes a frame, which
+  // replaces the one on top if it is a tail call. Invoking the continuation of the frame on top
+  // returns from it.
+  void step(Continuations.Interpreter.Callable fn, List<Continuations.Interpreter.Value> arguments) {
+    if (fn instanceof Continuations.Interpreter.Func f && f.location() instanceof Option.Some<Ast.Location> loc) {
+      var k = (Continuations.Interpreter.Callable) arguments.get(arguments.size() - 1);
+      if (isTailCall(k)) {
+        pop();
+      }
+      push(f.name(), loc.value(), k);
+    } else if (returnsTo(fn)) {
+      pop();
+    }
+    sampleIfRequested();
+  }
+
+  // A NaiveInterpreter.Caller that keeps the stack in step with the interpreter's own recursion.
+  NaiveInterpreter.Value call(NaiveInterpreter.Func func, List<NaiveInterpreter.Value> arguments) {
+    push(names.get(func.ast()), func.ast().location(), null);
+    sampleIfRequested();
+    try {
+      return NaiveInterpreter.apply(func, arguments, this::call);
+    } finally {
+      pop();
+    }
+  }
+
+  private void sampleIfRequested() {
+    if (sampleRequested) {
+      sampleRequested = false;
+      var key = runs.stream()
+          .map(run -> ";" + run.label())
+          .collect(Collectors.joining("", ROOT, ""));
+      samples.merge(key, 1L, Long::sum);
+    }
+  }
+
+  // Writes samples in the collapsed format read by flamegraph.pl and speedscope.
+  public void writeCollapsed(Path path) throws IOException {
+    var lines = samples.entrySet()
+        .stream()
+        .sorted(Map.Entry.comparingByKey())
+        .map(e -> e.getKey() + " " + e.getValue())
+        .toList();
+    Files.write(path, lines);
+  }
+
+  @Override
+  public void close() {
+    sampler.interrupt();
+  }
+}
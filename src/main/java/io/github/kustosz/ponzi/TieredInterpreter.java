@@ -0,0 +1,178 @@
+package io.github.kustosz.ponzi;
+
+import java.util.IdentityHashMap;
+
+public class TieredInterpreter {
+  static final int DEPTH_THRESHOLD = 100;
+
+  // What the CPS tier buys is constant Java stack for tail calls and heap-allocated continuations for
+  // deep recursion; a call there is otherwise about three times as slow (fib.scm: ~30 ms interpreted,
+  // ~90 ms in CPS). So a lambda is promoted on recursion depth, not call count: a self tail loop, which
+  // the interpreted tier runs as ever deeper recursion, gets there quickly, while a shallow hot function
+  // such as fib stays interpreted.
+  //
+  // Depth is kept per lambda rather than per closure, so that closures created anew on every
+  // call (e.g. `(fact-gen fact-gen)`) still count towards the code they share.
+  static final class Hotness {
+    int depth = 0;
+    boolean uncompilable = false;
+    Continuations.CExp.BindingSpec compiled = null;
+    // The closure last promoted and its CPS counterpart, so a closure that is called over and over
+    // (e.g. a letrec-bound recursive function) is promoted once.
+    NaiveInterpreter.Func closure = null;
+    Continuations.Interpreter.Func promoted = null;
+
+    boolean isHot() {
+      return compiled != null;
+    }
+  }
+
+  // A cold function seen from the CPS tier.
+  record Upcall(TieredInterpreter tier, NaiveInterpreter.Func func)
+      implements Continuations.Interpreter.Callable {
+    @Override
+    public Continuations.Interpreter.Result call(List<Continuations.Interpreter.Value> arguments) {
+      return tier.enter(func, arguments);
+    }
+  }
+
+  // A CPS function seen from the interpreted tier.
+  record Downcall(TieredInterpreter tier, Continuations.Interpreter.Callable callable)
+      implements NaiveInterpreter.BuiltinFunc {
+    @Override
+    public NaiveInterpreter.Value call(List<NaiveInterpreter.Value> arguments) {
+      var cpsArguments = arguments.map(tier::toCps).append(Continuations.Interpreter.HALT);
+      return tier.toNaive(Continuations.Interpreter.run(callable.call(cpsArguments)));
+    }
+  }
+
+  private final IdentityHashMap<Ast.Lambda, Hotness> profiles = new IdentityHashMap<>();
+
+  // Builtins of either tier map onto the other's own, so calling them costs no conversions.
+  private final NaiveInterpreter.Env global = NaiveInterpreter.Env.global();
+  private final IdentityHashMap<NaiveInterpreter.Value, Continuations.Interpreter.Value> cpsBuiltins =
+      new IdentityHashMap<>();
+  private final IdentityHashMap<Continuations.Interpreter.Value, NaiveInterpreter.Value> naiveBuiltins =
+      new IdentityHashMap<>();
+
+  TieredInterpreter() {
+    var cpsGlobal = Continuations.Interpreter.Env.global();
+    global.vars().forEach((name, value) -> {
+      var builtin = cpsGlobal.vars().get(name);
+      if (builtin != null) {
+        cpsBuiltins.put(value, builtin);
+        naiveBuiltins.put(builtin, value);
+      }
+    });
+  }
+
+  public static NaiveInterpreter.Value interpret(Ast ast) {
+    var tier = new TieredInterpreter();
+    return NaiveInterpreter.interpret(ast, tier.global, tier::call);
+  }
+
+  Hotness profile(NaiveInterpreter.Func func) {
+    var hotness = profiles.computeIfAbsent(func.ast(), l -> new Hotness());
+    if (hotness.compiled == null && !hotness.uncompilable && hotness.depth >= DEPTH_THRESHOLD) {
+      try {
+        hotness.compiled = Continuations.Converter.compileLambda(func.ast());
+      } catch (Continuations.Converter.Unsupported e) {
+        hotness.uncompilable = true;
+      }
+    }
+    return hotness;
+  }
+
+  NaiveInterpreter.Value call(NaiveInterpreter.Func func, List<NaiveInterpreter.Value> arguments) {
+    var hotness = profile(func);
+    if (hotness.isHot()) {
+      var cpsArguments = arguments.map(this::toCps).append(Continuations.Interpreter.HALT);
+      var result = compiled(func, hotness).call(cpsArguments);
+      return toNaive(Continuations.Interpreter.run(result));
+    }
+    return interpreted(func, hotness, arguments);
+  }
+
+  Continuations.Interpreter.Result enter(NaiveInterpreter.Func func,
+                                         List<Continuations.Interpreter.Value> arguments) {
+    var hotness = profile(func);
+    if (hotness.isHot()) {
+      return compiled(func, hotness).call(arguments);
+    }
+    var k = (Continuations.Interpreter.Callable) arguments.get(arguments.size() - 1);
+    var naiveArguments = List.of(arguments.stream()
+        .limit(arguments.size() - 1)
+        .map(this::toNaive)
+        .toList());
+    return new Continuations.Interpreter.NextCall(k, List.of(toCps(interpreted(func, hotness, naiveArguments))));
+  }
+
+  private NaiveInterpreter.Value interpreted(NaiveInterpreter.Func func, Hotness hotness,
+                                             List<NaiveInterpreter.Value> arguments) {
+    hotness.depth++;
+    try {
+      return NaiveInterpreter.apply(func, arguments, this::call);
+    } finally {
+      hotness.depth--;
+    }
+  }
+
+  private Continuations.Interpreter.Func compiled(NaiveInterpreter.Func func, Hotness hotness) {
+    if (hotness.closure != func) {
+      // Captured values are converted on first use and then kept by the scope.
+      var scope = Continuations.Interpreter.Env.over(variable -> {
+        var value = func.scope().lookupNoThrow(variable);
+        return value == null ? null : toCps(value);
+      });
+      var spec = hotness.compiled;
+      hotness.closure = func;
+      hotness.promoted = new Continuations.Interpreter.Func(spec.name(), spec.formals(), spec.definition(),
+          spec.location(), scope);
+    }
+    return hotness.promoted;
+  }
+
+  Continuations.Interpreter.Value toCps(NaiveInterpreter.Value value) {
+    var builtin = cpsBuiltins.get(value);
+    if (builtin != null) {
+      return builtin;
+    }
+    return switch (value) {
+      case NaiveInterpreter.Number n -> new Continuations.Interpreter.Number(n.value());
+      case NaiveInterpreter.Boolean b -> new Continuations.Interpreter.Boolean(b.value());
+      case NaiveInterpreter.NoValue v -> new Continuations.Interpreter.NoValue();
+      case NaiveInterpreter.Func f -> {
+        var hotness = profiles.get(f.ast());
+        if (hotness != null && hotness.compiled != null) {
+          yield compiled(f, hotness);
+        }
+        yield new Upcall(this, f);
+      }
+      case Downcall d -> d.callable();
+      case NaiveInterpreter.BuiltinFunc f -> (Continuations.Interpreter.Callable) arguments -> {
+        var k = (Continuations.Interpreter.Callable) arguments.get(arguments.size() - 1);
+        var naiveArguments = List.of(arguments.stream()
+            .limit(arguments.size() - 1)
+            .map(this::toNaive)
+            .toList());
+        return new Continuations.Interpreter.NextCall(k, List.of(toCps(f.call(naiveArguments))));
+      };
+      case default -> throw new RuntimeException("Cannot pass " + value + " to the CPS tier.");
+    };
+  }
+
+  NaiveInterpreter.Value toNaive(Continuations.Interpreter.Value value) {
+    var builtin = naiveBuiltins.get(value);
+    if (builtin != null) {
+      return builtin;
+    }
+    return switch (value) {
+      case Continuations.Interpreter.Number n -> new NaiveInterpreter.Number(n.value());
+      case Continuations.Interpreter.Boolean b -> new NaiveInterpreter.Boolean(b.value());
+      case Continuations.Interpreter.NoValue v -> new NaiveInterpreter.NoValue();
+      case Upcall u -> u.func();
+      case Continuations.Interpreter.Callable c -> new Downcall(this, c);
+      case default -> throw new RuntimeException("Cannot pass " + value + " to the interpreted tier.");
+    };
+  }
+}
@@ -0,0 +1,4 @@
+(letrec*
+  ((dec (lambda (n) (subtract n 1)))
+   (tree (lambda (d) (if (zero? d) 1 ((lambda (l r) (add l r)) (tree (dec d)) (tree (dec d)))))))
+  (tree 18))